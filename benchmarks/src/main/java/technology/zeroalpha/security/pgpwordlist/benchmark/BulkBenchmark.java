@@ -0,0 +1,232 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import technology.zeroalpha.security.pgpwordlist.ConversionResult;
+import technology.zeroalpha.security.pgpwordlist.InvalidPGPWordException;
+import technology.zeroalpha.security.pgpwordlist.PGPPhraseView;
+import technology.zeroalpha.security.pgpwordlist.PGPWordAsciiCodec;
+import technology.zeroalpha.security.pgpwordlist.PGPWordIndexCodec;
+import technology.zeroalpha.security.pgpwordlist.PGPWordListConverter;
+import technology.zeroalpha.security.pgpwordlist.PGPWordPairEncoder;
+import technology.zeroalpha.security.pgpwordlist.VerificationResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for bulk encoding and decoding through {@link PGPWordListConverter}, across payloads ranging from a few
+ * bytes to 1 MB.
+ *
+ * @author Chris Rowe
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkBenchmark {
+
+    /** Payload size in bytes. */
+    @Param({"4", "32", "1024", "65536", "1048576"})
+    private int size;
+
+    /** Converter under test. */
+    private final PGPWordListConverter converter = new PGPWordListConverter();
+
+    /** Converter under test, throwing exceptions without stack traces. */
+    private final PGPWordListConverter stacklessConverter = new PGPWordListConverter(false);
+
+    /** Pair table encoder under test. */
+    private final PGPWordPairEncoder pairEncoder = new PGPWordPairEncoder();
+
+    /** ASCII codec under test. */
+    private final PGPWordAsciiCodec asciiCodec = new PGPWordAsciiCodec();
+
+    /** Word index codec under test. */
+    private final PGPWordIndexCodec indexCodec = new PGPWordIndexCodec();
+
+    /** Random payload to encode. */
+    private byte[] bytes;
+
+    /** Encoded payload. */
+    private String words;
+
+    /** Encoded payload, in upper case. */
+    private String upperCaseWords;
+
+    /** Encoded payload, with an unrecognised final word. */
+    private String invalidWords;
+
+    /** Encoded payload, as ASCII. */
+    private byte[] asciiWords;
+
+    /** Reusable array for ASCII encoding. */
+    private byte[] asciiOutput;
+
+    /** Reusable builder for encoding. */
+    private final StringBuilder builder = new StringBuilder();
+
+    /** Reusable array for decoding. */
+    private byte[] output;
+
+    /** Payload's word indices, packed 9 bits each. */
+    private byte[] packedIndices;
+
+    /**
+     * Generate the payloads.
+     */
+    @Setup
+    public void setUp() {
+        bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        words = converter.encode(bytes);
+        upperCaseWords = words.toUpperCase();
+        invalidWords = words + "x";
+        output = new byte[size];
+        asciiWords = asciiCodec.encode(bytes);
+        asciiOutput = new byte[asciiCodec.maxEncodedLength(size)];
+        packedIndices = PGPWordIndexCodec.pack(indexCodec.bytesToIndices(bytes));
+    }
+
+    @Benchmark
+    public String encode() {
+        return converter.encode(bytes);
+    }
+
+    @Benchmark
+    public StringBuilder encodeIntoBuilder() {
+        builder.setLength(0);
+        converter.encode(bytes, 0, bytes.length, builder, PGPWordListConverter.DEFAULT_SEPARATOR);
+        return builder;
+    }
+
+    @Benchmark
+    public StringBuilder encodePairsIntoBuilder() {
+        builder.setLength(0);
+        pairEncoder.encode(bytes, 0, bytes.length, builder);
+        return builder;
+    }
+
+    @Benchmark
+    public byte[] encodeAsciiViaString() {
+        return converter.encode(bytes).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public int encodeAsciiIntoArray() {
+        return asciiCodec.encode(bytes, 0, bytes.length, asciiOutput, 0);
+    }
+
+    @Benchmark
+    public String encodeThenTakePrefix() {
+        return converter.encode(bytes).substring(0, 3);
+    }
+
+    @Benchmark
+    public String phraseViewPrefix() {
+        return new PGPPhraseView(bytes).subSequence(0, 3).toString();
+    }
+
+    @Benchmark
+    public byte[] packWordsAsIndices() throws InvalidPGPWordException {
+        return PGPWordIndexCodec.pack(indexCodec.wordsToIndices(words));
+    }
+
+    @Benchmark
+    public String unpackIndicesToWords() {
+        return indexCodec.indicesToWords(PGPWordIndexCodec.unpack(packedIndices));
+    }
+
+    @Benchmark
+    public String encodeParallel() {
+        return converter.encodeParallel(bytes);
+    }
+
+    @Benchmark
+    public byte[] decodeParallel() throws InvalidPGPWordException {
+        return converter.decodeParallel(words);
+    }
+
+    @Benchmark
+    public byte[] decode() throws InvalidPGPWordException {
+        return converter.decode(words);
+    }
+
+    @Benchmark
+    public int decodeIntoArray() throws InvalidPGPWordException {
+        return converter.decode(words, output, 0);
+    }
+
+    @Benchmark
+    public int decodeAsciiIntoArray() throws InvalidPGPWordException {
+        return asciiCodec.decode(asciiWords, 0, asciiWords.length, output, 0);
+    }
+
+    @Benchmark
+    public VerificationResult verify() {
+        return converter.verify(bytes, words);
+    }
+
+    @Benchmark
+    public byte[] decodeUpperCase() throws InvalidPGPWordException {
+        return converter.decode(upperCaseWords);
+    }
+
+    @Benchmark
+    public Object decodeInvalid() {
+        try {
+            return converter.decode(invalidWords, output, 0);
+        } catch (final InvalidPGPWordException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object decodeInvalidStackless() {
+        try {
+            return stacklessConverter.decode(invalidWords, output, 0);
+        } catch (final InvalidPGPWordException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ConversionResult<byte[]> tryDecodeInvalid() {
+        return converter.tryDecode(invalidWords);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import technology.zeroalpha.security.pgpwordlist.InvalidPGPWordException;
+import technology.zeroalpha.security.pgpwordlist.PGPPhraseCache;
+import technology.zeroalpha.security.pgpwordlist.PGPWordListConverter;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for encoding and decoding a 32 byte fingerprint from every available core at once, with a shared
+ * converter, with a converter created per operation and through a shared cache.
+ *
+ * @author Chris Rowe
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class ContendedBenchmark {
+
+    /** Converter shared by all threads. */
+    private final PGPWordListConverter sharedConverter = new PGPWordListConverter();
+
+    /** Cache shared by all threads. */
+    private final PGPPhraseCache cache = new PGPPhraseCache(4096);
+
+    /** Fingerprint to encode. */
+    private final byte[] fingerprint = new byte[32];
+
+    /** Encoded fingerprint. */
+    private String words;
+
+    /**
+     * Generate the fingerprint.
+     */
+    @Setup
+    public void setUp() {
+        new Random(32).nextBytes(fingerprint);
+        words = sharedConverter.encode(fingerprint);
+    }
+
+    @Benchmark
+    public String encodeShared() {
+        return sharedConverter.encode(fingerprint);
+    }
+
+    @Benchmark
+    public byte[] decodeShared() throws InvalidPGPWordException {
+        return sharedConverter.decode(words);
+    }
+
+    @Benchmark
+    public String encodePerRequest() {
+        return new PGPWordListConverter().encode(fingerprint);
+    }
+
+    @Benchmark
+    public byte[] decodePerRequest() throws InvalidPGPWordException {
+        return new PGPWordListConverter().decode(words);
+    }
+
+    @Benchmark
+    public String encodeCached() {
+        return cache.encode(fingerprint);
+    }
+
+    @Benchmark
+    public byte[] decodeCached() throws InvalidPGPWordException {
+        return cache.decode(words);
+    }
+}
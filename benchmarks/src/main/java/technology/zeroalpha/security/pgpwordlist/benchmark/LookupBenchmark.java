@@ -0,0 +1,188 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import technology.zeroalpha.security.pgpwordlist.HexStyle;
+import technology.zeroalpha.security.pgpwordlist.InvalidHexValueException;
+import technology.zeroalpha.security.pgpwordlist.InvalidPGPWordException;
+import technology.zeroalpha.security.pgpwordlist.PGPWordList;
+import technology.zeroalpha.security.pgpwordlist.PGPWordListConverter;
+import technology.zeroalpha.security.pgpwordlist.PGPWordPrefixIndex;
+import technology.zeroalpha.security.pgpwordlist.PGPWordPrefixMatches;
+import technology.zeroalpha.security.pgpwordlist.PGPWordSuggester;
+import technology.zeroalpha.security.pgpwordlist.PGPWordSuggestion;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for single value lookups in both directions, through both {@link PGPWordListConverter} and
+ * {@link PGPWordList}. Each invocation cycles through all 256 values so that results are not skewed by a single,
+ * perfectly cached entry.
+ *
+ * @author Chris Rowe
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LookupBenchmark {
+
+    /** Converter under test. */
+    private final PGPWordListConverter converter = new PGPWordListConverter();
+
+    /** Word list under test. */
+    private final PGPWordList pgpWordList = new PGPWordList();
+
+    /** Suggester under test. */
+    private final PGPWordSuggester suggester = new PGPWordSuggester();
+
+    /** Prefix index under test. */
+    private final PGPWordPrefixIndex prefixIndex = new PGPWordPrefixIndex();
+
+    /** Two character hex strings for every value. */
+    private final String[] hexStrings = new String[256];
+
+    /** Even words for every value, as they appear in the list. */
+    private final String[] words = new String[256];
+
+    /** Even words for every value, in upper case. */
+    private final String[] upperCaseWords = new String[256];
+
+    /** Strings that are not PGP Words. */
+    private final String[] invalidWords = new String[256];
+
+    /** First two letters of the even words for every value. */
+    private final String[] prefixes = new String[256];
+
+    /** Index of the next value to look up. */
+    private int next;
+
+    /**
+     * Populate the inputs for every value.
+     */
+    @Setup
+    public void setUp() {
+        for (int hexValue = 0; hexValue < 256; hexValue++) {
+            hexStrings[hexValue] = String.format("%02X", hexValue);
+            words[hexValue] = pgpWordList.getEvenWord(hexValue);
+            upperCaseWords[hexValue] = words[hexValue].toUpperCase();
+            invalidWords[hexValue] = words[hexValue] + "x";
+            prefixes[hexValue] = words[hexValue].substring(0, 2);
+        }
+    }
+
+    /**
+     * @return Index of the next value to look up
+     */
+    private int nextIndex() {
+        next = (next + 1) & 0xFF;
+        return next;
+    }
+
+    @Benchmark
+    public String converterHexToWord() throws InvalidHexValueException {
+        return converter.getEvenWordForHexValue(hexStrings[nextIndex()]);
+    }
+
+    @Benchmark
+    public String converterWordToHex() throws InvalidPGPWordException {
+        return converter.getHexValueForPGPWord(words[nextIndex()]);
+    }
+
+    @Benchmark
+    public String converterWordToFixedWidthHex() throws InvalidPGPWordException {
+        return converter.getHexValueForPGPWord(words[nextIndex()], HexStyle.LOWER_CASE_FIXED_WIDTH);
+    }
+
+    @Benchmark
+    public String converterUpperCaseWordToHex() throws InvalidPGPWordException {
+        return converter.getHexValueForPGPWord(upperCaseWords[nextIndex()]);
+    }
+
+    @Benchmark
+    public Object converterInvalidWord() {
+        try {
+            return converter.getHexValueForPGPWord(invalidWords[nextIndex()]);
+        } catch (final InvalidPGPWordException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object converterInvalidHex() {
+        try {
+            return converter.getEvenWordForHexValue("G" + nextIndex());
+        } catch (final InvalidHexValueException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public String wordListValueToWord() {
+        return pgpWordList.getEvenWord(nextIndex());
+    }
+
+    @Benchmark
+    public Integer wordListWordToValueBoxed() {
+        return pgpWordList.getHexValueByPGPWord(words[nextIndex()]);
+    }
+
+    @Benchmark
+    public int wordListWordToValue() {
+        return pgpWordList.lookupHexValue(words[nextIndex()]);
+    }
+
+    @Benchmark
+    public int wordListUpperCaseWordToValue() {
+        return pgpWordList.lookupHexValue(upperCaseWords[nextIndex()]);
+    }
+
+    @Benchmark
+    public int wordListInvalidWord() {
+        return pgpWordList.lookupHexValue(invalidWords[nextIndex()]);
+    }
+
+    @Benchmark
+    public List<PGPWordSuggestion> suggesterInvalidWord() {
+        return suggester.suggest(invalidWords[nextIndex()], 0);
+    }
+
+    @Benchmark
+    public PGPWordPrefixMatches prefixIndexMatch() {
+        return prefixIndex.matchEven(prefixes[nextIndex()]);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import technology.zeroalpha.security.pgpwordlist.ConversionListener;
+import technology.zeroalpha.security.pgpwordlist.ConversionStatistics;
+import technology.zeroalpha.security.pgpwordlist.InvalidPGPWordException;
+import technology.zeroalpha.security.pgpwordlist.PGPWordList;
+import technology.zeroalpha.security.pgpwordlist.PGPWordListConverter;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the cost of reporting conversions, encoding and decoding a 32 byte fingerprint with a converter given
+ * the no-op listener and one recording {@link ConversionStatistics}. As a converter without a listener runs the same
+ * code as one given the no-op listener, both are compared against a baseline that converts directly through
+ * {@link PGPWordList}, with no instrumentation at all. The baseline and the no-op listener should be
+ * indistinguishable.
+ *
+ * @author Chris Rowe
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+
+    /** Word list for the uninstrumented baseline. */
+    private final PGPWordList pgpWordList = new PGPWordList();
+
+    /** Converter given the no-op listener. */
+    private final PGPWordListConverter disabledConverter = new PGPWordListConverter(true, ConversionListener.NONE);
+
+    /** Converter recording statistics. */
+    private final PGPWordListConverter statisticsConverter =
+            new PGPWordListConverter(true, new ConversionStatistics());
+
+    /** Fingerprint to encode. */
+    private final byte[] fingerprint = new byte[32];
+
+    /** Reusable array for decoding. */
+    private final byte[] output = new byte[32];
+
+    /** Encoded fingerprint. */
+    private String words;
+
+    /**
+     * Generate the fingerprint.
+     */
+    @Setup
+    public void setUp() {
+        new Random(32).nextBytes(fingerprint);
+        words = disabledConverter.encode(fingerprint);
+    }
+
+    @Benchmark
+    public String encodeBaseline() {
+        final StringBuilder builder = new StringBuilder(fingerprint.length * (pgpWordList.getMaximumWordLength() + 1));
+        for (int i = 0; i < fingerprint.length; i++) {
+            if (i > 0) {
+                builder.append(PGPWordListConverter.DEFAULT_SEPARATOR);
+            }
+            final int hexValue = fingerprint[i] & 0xFF;
+            builder.append((i & 1) == 0 ? pgpWordList.getEvenWord(hexValue) : pgpWordList.getOddWord(hexValue));
+        }
+
+        return builder.toString();
+    }
+
+    @Benchmark
+    public String encodeDisabled() {
+        return disabledConverter.encode(fingerprint);
+    }
+
+    @Benchmark
+    public String encodeStatistics() {
+        return statisticsConverter.encode(fingerprint);
+    }
+
+    @Benchmark
+    public int decodeBaseline() throws InvalidPGPWordException {
+        int position = 0;
+        int index = 0;
+        while (index < words.length()) {
+            int end = index;
+            while (end < words.length() && words.charAt(end) != ' ') {
+                end++;
+            }
+
+            final int value = pgpWordList.lookupWord(words, index, end);
+            if (value == PGPWordList.NOT_FOUND
+                    || ((value & PGPWordList.ODD_WORD_FLAG) == 0) != ((position & 1) == 0)) {
+                throw new InvalidPGPWordException(words.substring(index, end));
+            }
+            output[position++] = (byte) value;
+            index = end + 1;
+        }
+
+        return position;
+    }
+
+    @Benchmark
+    public int decodeDisabled() throws InvalidPGPWordException {
+        return disabledConverter.decode(words, output, 0);
+    }
+
+    @Benchmark
+    public int decodeStatistics() throws InvalidPGPWordException {
+        return statisticsConverter.decode(words, output, 0);
+    }
+}
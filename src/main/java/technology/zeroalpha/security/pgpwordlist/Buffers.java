@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.nio.Buffer;
+
+/**
+ * Java 8 compatible calls to {@link Buffer} methods. Later JDKs override these methods in each buffer class with
+ * covariant return types, so code compiled against them calling e.g. {@code ByteBuffer.position(int)} fails to link on
+ * Java 8. Calling through {@link Buffer} links to the method every version has.
+ *
+ * @author Chris Rowe
+ */
+final class Buffers {
+
+    /**
+     * Utility class, not to be instantiated.
+     */
+    private Buffers() {
+    }
+
+    /**
+     * @param buffer Buffer to update
+     * @param position New position
+     */
+    static void position(final Buffer buffer, final int position) {
+        buffer.position(position);
+    }
+
+    /**
+     * @param buffer Buffer to update
+     * @param limit New limit
+     */
+    static void limit(final Buffer buffer, final int limit) {
+        buffer.limit(limit);
+    }
+
+    /**
+     * @param buffer Buffer to flip, ready for reading what was written
+     */
+    static void flip(final Buffer buffer) {
+        buffer.flip();
+    }
+
+    /**
+     * @param buffer Buffer to clear, ready for writing
+     */
+    static void clear(final Buffer buffer) {
+        buffer.clear();
+    }
+}
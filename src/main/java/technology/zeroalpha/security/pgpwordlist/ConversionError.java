@@ -0,0 +1,47 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+/**
+ * Reasons that a conversion between bytes, hexadecimal values and PGP Words can fail.
+ *
+ * @author Chris Rowe
+ */
+public enum ConversionError {
+
+    /** Null was supplied rather than a value to convert. */
+    NULL_INPUT,
+
+    /** A character was not a valid hexadecimal digit, or the hexadecimal value was incomplete or too large. */
+    INVALID_HEX_VALUE,
+
+    /** A word was not recognised as a PGP Word. */
+    UNRECOGNISED_WORD,
+
+    /** A PGP Word was recognised, but is an even word at an odd position or an odd word at an even position. */
+    WRONG_PARITY,
+
+    /** Every PGP Word was valid, but the sentence did not represent the expected bytes. */
+    MISMATCH
+}
@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+/**
+ * Receives a callback for every conversion performed by a {@link PGPWordListConverter}, or correction looked up by a
+ * {@link PGPWordSuggester}, e.g. to record metrics. Each
+ * call is reported exactly once, either as a success or as a failure. Every method does nothing by default, so
+ * implementations only need to override the callbacks they are interested in.
+ * <p>
+ * Callbacks are made on the thread performing the conversion, so implementations must be thread-safe and should return
+ * quickly. {@link ConversionStatistics} is a ready-made implementation.
+ *
+ * @author Chris Rowe
+ */
+public interface ConversionListener {
+
+    /**
+     * Listener that ignores every callback. A converter given this listener skips timing conversions altogether, so
+     * has no measurable overhead.
+     */
+    ConversionListener NONE = new ConversionListener() { };
+
+    /**
+     * Called after a conversion succeeds.
+     *
+     * @param operation Operation performed
+     * @param bytes Number of bytes encoded or decoded
+     * @param elapsedNanos Time taken by the conversion, in nanoseconds
+     */
+    default void onSuccess(final ConversionOperation operation, final int bytes, final long elapsedNanos) {
+    }
+
+    /**
+     * Called when a conversion fails, before the failure is thrown or returned.
+     *
+     * @param operation Operation attempted
+     * @param error Reason the conversion failed
+     */
+    default void onFailure(final ConversionOperation operation, final ConversionError error) {
+    }
+}
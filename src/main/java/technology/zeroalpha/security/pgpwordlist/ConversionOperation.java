@@ -0,0 +1,51 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+/**
+ * Operations performed by {@link PGPWordListConverter} and {@link PGPWordSuggester}, as reported to a
+ * {@link ConversionListener}.
+ *
+ * @author Chris Rowe
+ */
+public enum ConversionOperation {
+
+    /** A single hexadecimal value was converted into a PGP Word. */
+    HEX_TO_WORD,
+
+    /** A single PGP Word was converted into a hexadecimal value. */
+    WORD_TO_HEX,
+
+    /** Bytes, or a string of hexadecimal digits, were converted into a sentence of PGP Words. */
+    ENCODE,
+
+    /** A sentence of PGP Words was converted into bytes, or a string of hexadecimal digits. */
+    DECODE,
+
+    /** A sentence of PGP Words was compared against expected bytes. */
+    VERIFY,
+
+    /** Corrections were looked up for a mistyped or misheard word. Fails if no correction was found. */
+    SUGGEST
+}
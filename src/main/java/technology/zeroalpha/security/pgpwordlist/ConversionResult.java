@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+/**
+ * Outcome of a conversion that reports failure as a value rather than by throwing an exception. A successful result
+ * holds the converted value; a failed result holds the {@link ConversionError} and the position at which the
+ * conversion stopped.
+ *
+ * @param <T> Type of the converted value
+ *
+ * @author Chris Rowe
+ */
+public final class ConversionResult<T> {
+
+    /** Position reported by successful results. */
+    public static final int NO_POSITION = -1;
+
+    /** Converted value, or null if conversion failed. */
+    private final T value;
+
+    /** Reason for failure, or null if conversion succeeded. */
+    private final ConversionError error;
+
+    /** Position of the invalid input, or {@link #NO_POSITION} if conversion succeeded. */
+    private final int errorPosition;
+
+    /**
+     * @param value Converted value
+     * @param error Reason for failure
+     * @param errorPosition Position of the invalid input
+     */
+    private ConversionResult(final T value, final ConversionError error, final int errorPosition) {
+        this.value = value;
+        this.error = error;
+        this.errorPosition = errorPosition;
+    }
+
+    /**
+     * @param value Converted value
+     * @param <T> Type of the converted value
+     * @return Successful result holding the value
+     */
+    static <T> ConversionResult<T> success(final T value) {
+        return new ConversionResult<>(value, null, NO_POSITION);
+    }
+
+    /**
+     * @param error Reason for failure
+     * @param errorPosition Position of the invalid input
+     * @param <T> Type of the converted value
+     * @return Failed result
+     */
+    static <T> ConversionResult<T> failure(final ConversionError error, final int errorPosition) {
+        return new ConversionResult<>(null, error, errorPosition);
+    }
+
+    /**
+     * @return True if the conversion succeeded
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * @return the converted value, or null if the conversion failed
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * @return the reason for failure, or null if the conversion succeeded
+     */
+    public ConversionError getError() {
+        return error;
+    }
+
+    /**
+     * Position at which conversion failed. For words this is the index of the word within the sentence, and for
+     * hexadecimal input it is the index of the character within the string.
+     *
+     * @return the position of the invalid input, or {@link #NO_POSITION} if the conversion succeeded
+     */
+    public int getErrorPosition() {
+        return errorPosition;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess()
+                ? "ConversionResult[success]"
+                : String.format("ConversionResult[%s at %d]", error, errorPosition);
+    }
+}
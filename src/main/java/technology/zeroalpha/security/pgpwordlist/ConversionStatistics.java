@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ConversionListener} that counts conversions, bytes processed and failures, and keeps a latency histogram for
+ * each {@link ConversionOperation}. Counters are {@link LongAdder}s, so recording stays cheap when many threads convert
+ * at once, and can be read at any time, e.g. by a metrics exporter.
+ * <p>
+ * Latencies are bucketed by powers of two: element {@code i} of a histogram counts conversions taking from
+ * {@code 2^i} to {@code 2^(i+1) - 1} nanoseconds, with element 0 also counting conversions measured as 0 nanoseconds.
+ *
+ * @author Chris Rowe
+ */
+public class ConversionStatistics implements ConversionListener {
+
+    /** Number of latency histogram buckets, enough for any {@code long} number of nanoseconds. */
+    public static final int LATENCY_BUCKETS = 64;
+
+    /** Successful conversions, indexed by operation. */
+    private final LongAdder[] successes = newAdders(ConversionOperation.values().length);
+
+    /** Failed conversions, indexed by operation. */
+    private final LongAdder[] failures = newAdders(ConversionOperation.values().length);
+
+    /** Bytes encoded or decoded, indexed by operation. */
+    private final LongAdder[] bytes = newAdders(ConversionOperation.values().length);
+
+    /** Failed conversions, indexed by error. */
+    private final LongAdder[] errors = newAdders(ConversionError.values().length);
+
+    /** Latency histograms, indexed by operation then bucket. */
+    private final LongAdder[][] latencies = new LongAdder[ConversionOperation.values().length][];
+
+    /**
+     * No-arg constructor.
+     */
+    public ConversionStatistics() {
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = newAdders(LATENCY_BUCKETS);
+        }
+    }
+
+    @Override
+    public void onSuccess(final ConversionOperation operation, final int bytes, final long elapsedNanos) {
+        successes[operation.ordinal()].increment();
+        this.bytes[operation.ordinal()].add(bytes);
+        latencies[operation.ordinal()][bucket(elapsedNanos)].increment();
+    }
+
+    @Override
+    public void onFailure(final ConversionOperation operation, final ConversionError error) {
+        failures[operation.ordinal()].increment();
+        errors[error.ordinal()].increment();
+    }
+
+    /**
+     * @param operation Operation
+     * @return Number of calls made for the operation, whether they succeeded or failed
+     */
+    public long getCallCount(final ConversionOperation operation) {
+        return getSuccessCount(operation) + getFailureCount(operation);
+    }
+
+    /**
+     * @param operation Operation
+     * @return Number of successful conversions for the operation
+     */
+    public long getSuccessCount(final ConversionOperation operation) {
+        return successes[operation.ordinal()].sum();
+    }
+
+    /**
+     * @param operation Operation
+     * @return Number of failed conversions for the operation
+     */
+    public long getFailureCount(final ConversionOperation operation) {
+        return failures[operation.ordinal()].sum();
+    }
+
+    /**
+     * @param operation Operation
+     * @return Number of bytes encoded or decoded by successful conversions for the operation
+     */
+    public long getByteCount(final ConversionOperation operation) {
+        return bytes[operation.ordinal()].sum();
+    }
+
+    /**
+     * @param error Reason for failure, e.g. {@link ConversionError#INVALID_HEX_VALUE},
+     *     {@link ConversionError#UNRECOGNISED_WORD} or {@link ConversionError#WRONG_PARITY}
+     * @return Number of conversions, across all operations, that failed for the reason
+     */
+    public long getErrorCount(final ConversionError error) {
+        return errors[error.ordinal()].sum();
+    }
+
+    /**
+     * @param operation Operation
+     * @return Snapshot of the latency histogram of successful conversions for the operation, with
+     *     {@link #LATENCY_BUCKETS} elements
+     */
+    public long[] getLatencyHistogram(final ConversionOperation operation) {
+        final LongAdder[] histogram = latencies[operation.ordinal()];
+        final long[] snapshot = new long[histogram.length];
+        for (int i = 0; i < histogram.length; i++) {
+            snapshot[i] = histogram[i].sum();
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * @param elapsedNanos Time taken by a conversion, in nanoseconds
+     * @return Index of the latency histogram bucket for the time
+     */
+    static int bucket(final long elapsedNanos) {
+        return elapsedNanos <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(elapsedNanos);
+    }
+
+    /**
+     * @param count Number of adders
+     * @return Array of new adders
+     */
+    private static LongAdder[] newAdders(final int count) {
+        final LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+
+        return adders;
+    }
+}
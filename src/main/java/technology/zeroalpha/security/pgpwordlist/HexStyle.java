@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+/**
+ * Ways of writing a hexadecimal value, choosing the case of the letter digits and whether values below 0x10 keep their
+ * leading zero. The text for every value from 00 to FF is precomputed, so formatting is a single array lookup and
+ * allocates nothing.
+ *
+ * @author Chris Rowe
+ */
+public enum HexStyle {
+
+    /** Upper case, without a leading zero, e.g. {@code "A"} and {@code "C5"}. */
+    UPPER_CASE(true, false),
+
+    /** Lower case, without a leading zero, e.g. {@code "a"} and {@code "c5"}. */
+    LOWER_CASE(false, false),
+
+    /** Upper case, always two digits, e.g. {@code "0A"} and {@code "C5"}. */
+    UPPER_CASE_FIXED_WIDTH(true, true),
+
+    /** Lower case, always two digits, e.g. {@code "0a"} and {@code "c5"}. */
+    LOWER_CASE_FIXED_WIDTH(false, true);
+
+    /** Whether letter digits are upper case. */
+    private final boolean upperCase;
+
+    /** Whether values are always written with two digits. */
+    private final boolean fixedWidth;
+
+    /** Text for every value, indexed by the value. */
+    private final String[] values = new String[256];
+
+    /**
+     * @param upperCase Whether letter digits are upper case
+     * @param fixedWidth Whether values are always written with two digits
+     */
+    HexStyle(final boolean upperCase, final boolean fixedWidth) {
+        this.upperCase = upperCase;
+        this.fixedWidth = fixedWidth;
+
+        final char[] digits = upperCase ? HexTables.UPPER_CASE_DIGITS : HexTables.LOWER_CASE_DIGITS;
+        for (int value = 0; value < values.length; value++) {
+            final char high = digits[value >> 4];
+            final char low = digits[value & 0x0F];
+            values[value] = fixedWidth || value > 0x0F ? new String(new char[] {high, low}) : String.valueOf(low);
+        }
+    }
+
+    /**
+     * @param value Value between 0x00 and 0xFF
+     * @return Text of the value in this style
+     *
+     * @throws IndexOutOfBoundsException If the value is not between 0x00 and 0xFF
+     */
+    public String format(final int value) {
+        return values[value];
+    }
+
+    /**
+     * @return True if letter digits are upper case
+     */
+    public boolean isUpperCase() {
+        return upperCase;
+    }
+
+    /**
+     * @return True if values are always written with two digits
+     */
+    public boolean isFixedWidth() {
+        return fixedWidth;
+    }
+
+    /**
+     * @return Digits in this style's case, indexed by value
+     */
+    char[] digits() {
+        return upperCase ? HexTables.UPPER_CASE_DIGITS : HexTables.LOWER_CASE_DIGITS;
+    }
+}
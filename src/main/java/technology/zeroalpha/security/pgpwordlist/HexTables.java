@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.util.Arrays;
+
+/**
+ * Lookup tables for formatting and parsing hexadecimal digits by plain array indexing.
+ *
+ * @author Chris Rowe
+ */
+final class HexTables {
+
+    /** Upper case hexadecimal digits, indexed by value. */
+    static final char[] UPPER_CASE_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /** Lower case hexadecimal digits, indexed by value. */
+    static final char[] LOWER_CASE_DIGITS = "0123456789abcdef".toCharArray();
+
+    /** Value of each ASCII character as a hexadecimal digit, or -1 if it is not a hexadecimal digit. */
+    private static final byte[] NIBBLE_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(NIBBLE_VALUES, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            NIBBLE_VALUES[UPPER_CASE_DIGITS[i]] = (byte) i;
+            NIBBLE_VALUES[LOWER_CASE_DIGITS[i]] = (byte) i;
+        }
+    }
+
+    /**
+     * Utility class, not to be instantiated.
+     */
+    private HexTables() {
+    }
+
+    /**
+     * @param c Character to convert
+     * @return Value of the hexadecimal digit, or -1 if the character is not a hexadecimal digit
+     */
+    static int nibbleValue(final char c) {
+        return c < NIBBLE_VALUES.length ? NIBBLE_VALUES[c] : -1;
+    }
+}
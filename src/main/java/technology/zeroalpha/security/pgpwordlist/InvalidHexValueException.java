@@ -44,4 +44,13 @@ public class InvalidHexValueException extends Exception {
     public InvalidHexValueException(final String message, final Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * @param message Reason for exception being thrown
+     * @param writableStackTrace Whether the stack trace should be captured. Exceptions without a stack trace are much
+     *     cheaper to create, which matters when rejecting large volumes of untrusted input.
+     */
+    public InvalidHexValueException(final String message, final boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+    }
 }
@@ -36,4 +36,46 @@ public class InvalidPGPWordException extends Exception {
     public InvalidPGPWordException(final String message) {
         super(message);
     }
+
+    /**
+     * @param message Reason for exception being thrown
+     * @param writableStackTrace Whether the stack trace should be captured. Exceptions without a stack trace are much
+     *     cheaper to create, which matters when rejecting large volumes of untrusted input.
+     */
+    public InvalidPGPWordException(final String message, final boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+    }
+
+    /**
+     * Describe a word that could not be decoded, based on the value returned when it was looked up.
+     *
+     * @param value Value returned by {@link PGPWordList#lookupWord(CharSequence, int, int)} for the word
+     * @param position Position of the word in the sentence
+     * @param word The word
+     * @return Message for the exception
+     */
+    static String message(final int value, final long position, final CharSequence word) {
+        return value == PGPWordList.NOT_FOUND
+                ? unrecognisedMessage(position, word)
+                : wrongParityMessage(position, word);
+    }
+
+    /**
+     * @param position Position of the word in the sentence
+     * @param word The word
+     * @return Message for a word that is not in the list
+     */
+    static String unrecognisedMessage(final long position, final CharSequence word) {
+        return String.format("PGP Word not recognised at position %d: %s", position, word);
+    }
+
+    /**
+     * @param position Position of the word in the sentence
+     * @param word The word
+     * @return Message for a word from the wrong column for its position
+     */
+    static String wrongParityMessage(final long position, final CharSequence word) {
+        return String.format("PGP Word at position %d should be an %s word: %s",
+                position, (position & 1) == 0 ? "even" : "odd", word);
+    }
 }
@@ -0,0 +1,335 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in, size-bounded cache of conversions between bytes (e.g. key fingerprints) and sentences of PGP Words, for
+ * services that convert the same values over and over. Conversions in each direction are cached separately: sentences
+ * by their bytes, and bytes by their sentence after normalising case and whitespace. Invalid sentences are never
+ * cached.
+ * <p>
+ * Each direction is split into stripes, each an LRU map guarded by its own lock, so threads converting different
+ * values rarely contend. The least recently used entry of a stripe is evicted once the stripe is full. Stripe
+ * capacities add up to exactly the configured maximum, so the cache never holds more than that many entries in each
+ * direction; a small cache uses fewer stripes, so that every stripe can hold at least one entry.
+ * Conversions on a miss happen outside any lock. Hit, miss and eviction counts are kept in {@link LongAdder}s.
+ *
+ * @author Chris Rowe
+ */
+public class PGPPhraseCache {
+
+    /** Number of stripes used when none is specified. */
+    public static final int DEFAULT_STRIPES = 16;
+
+    /** Converter used on a miss. */
+    private final PGPWordListConverter converter;
+
+    /** Cached sentences, keyed by their bytes. */
+    private final Stripe<BytesKey, String>[] encoded;
+
+    /** Cached bytes, keyed by their normalised sentence. */
+    private final Stripe<String, byte[]>[] decoded;
+
+    /** Number of lookups that found a cached value. */
+    private final LongAdder hits = new LongAdder();
+
+    /** Number of lookups that had to convert. */
+    private final LongAdder misses = new LongAdder();
+
+    /** Number of entries evicted to make room for others. */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Create a cache using a default converter and {@link #DEFAULT_STRIPES} stripes.
+     *
+     * @param maximumSize Maximum number of entries cached in each direction
+     */
+    public PGPPhraseCache(final int maximumSize) {
+        this(new PGPWordListConverter(), maximumSize, DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param converter Converter used on a miss
+     * @param maximumSize Maximum number of entries cached in each direction
+     * @param stripes Number of independently locked stripes. Must be a power of two. At most as many stripes as the
+     *     maximum size are used.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public PGPPhraseCache(final PGPWordListConverter converter, final int maximumSize, final int stripes) {
+        if (converter == null) {
+            throw new NullPointerException("Converter must not be null");
+        } else if (maximumSize < 1) {
+            throw new IllegalArgumentException(String.format("Maximum size must be at least 1: %d", maximumSize));
+        } else if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException(String.format("Number of stripes must be a power of two: %d",
+                    stripes));
+        }
+
+        this.converter = converter;
+        // Spread the maximum over the stripes, so capacities add up to it exactly and none is empty
+        final int stripeCount = Math.min(stripes, Integer.highestOneBit(maximumSize));
+        this.encoded = new Stripe[stripeCount];
+        this.decoded = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            final int capacity = maximumSize / stripeCount + (i < maximumSize % stripeCount ? 1 : 0);
+            encoded[i] = new Stripe<>(capacity, evictions);
+            decoded[i] = new Stripe<>(capacity, evictions);
+        }
+    }
+
+    /**
+     * Convert bytes into a sentence of PGP Words, as {@link PGPWordListConverter#encode(byte[])} does, using the cached
+     * sentence if there is one.
+     *
+     * @param bytes Bytes to convert
+     * @return PGP Words representing the bytes
+     */
+    public String encode(final byte[] bytes) {
+        // Look up with the caller's array, and only copy it when the entry is stored
+        final Stripe<BytesKey, String> stripe = stripe(encoded, Arrays.hashCode(bytes));
+        final String cached = stripe.getValue(new BytesKey(bytes));
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        final BytesKey key = new BytesKey(bytes.clone());
+        final String words = converter.encode(key.bytes);
+        stripe(encoded, key.hashCode()).putValue(key, words);
+
+        return words;
+    }
+
+    /**
+     * Convert a sentence of PGP Words into bytes, as {@link PGPWordListConverter#decode(CharSequence)} does, using the
+     * cached bytes if the sentence, ignoring case and whitespace, has been converted before.
+     *
+     * @param words Sentence of PGP Words
+     * @return Bytes represented by the words. A new array is returned on every call, so may be modified freely.
+     *
+     * @throws InvalidPGPWordException If a word is not recognised, or appears at the wrong position
+     */
+    public byte[] decode(final CharSequence words) throws InvalidPGPWordException {
+        if (words == null) {
+            return converter.decode(null);
+        }
+
+        final String key = normalise(words);
+        final Stripe<String, byte[]> stripe = stripe(decoded, key.hashCode());
+        final byte[] cached = stripe.getValue(key);
+        if (cached != null) {
+            hits.increment();
+            return cached.clone();
+        }
+
+        misses.increment();
+        final byte[] bytes = converter.decode(key);
+        stripe.putValue(key, bytes.clone());
+
+        return bytes;
+    }
+
+    /**
+     * @return Number of lookups, in either direction, that found a cached value
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Number of lookups, in either direction, that had to convert
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Number of entries evicted to make room for others
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return Number of entries currently cached, in both directions
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < encoded.length; i++) {
+            size += encoded[i].sizeOf() + decoded[i].sizeOf();
+        }
+
+        return size;
+    }
+
+    /**
+     * Remove every cached entry. Counters are not reset.
+     */
+    public void clear() {
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i].clearAll();
+            decoded[i].clearAll();
+        }
+    }
+
+    /**
+     * @param stripes Stripes to choose from
+     * @param hash Hash code of the key
+     * @param <K> Type of key
+     * @param <V> Type of value
+     * @return Stripe responsible for the key
+     */
+    private static <K, V> Stripe<K, V> stripe(final Stripe<K, V>[] stripes, final int hash) {
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    /**
+     * @param words Sentence of words
+     * @return Sentence in lower case, with single spaces between words and no leading or trailing whitespace
+     */
+    private static String normalise(final CharSequence words) {
+        final StringBuilder builder = new StringBuilder(words.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < words.length(); i++) {
+            final char c = words.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = builder.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            builder.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Bytes used as a map key, compared by content. Keys wrapping a caller's array are only used for lookups, and never
+     * stored.
+     */
+    private static final class BytesKey {
+
+        /** Bytes, which must not be modified while the key is in use. */
+        private final byte[] bytes;
+
+        /** Hash code of the bytes. */
+        private final int hash;
+
+        /**
+         * @param bytes Bytes, which must not be modified while the key is in use
+         */
+        private BytesKey(final byte[] bytes) {
+            this.bytes = bytes;
+            this.hash = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof BytesKey && Arrays.equals(bytes, ((BytesKey) other).bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * One stripe of a cache: an access-ordered map that evicts its least recently used entry once full. Every access
+     * is synchronised on the stripe.
+     *
+     * @param <K> Type of key
+     * @param <V> Type of value
+     */
+    private static final class Stripe<K, V> extends LinkedHashMap<K, V> {
+
+        /** Serialisation version. */
+        private static final long serialVersionUID = 1L;
+
+        /** Maximum number of entries in the stripe. */
+        private final int capacity;
+
+        /** Counter of evicted entries, shared by every stripe of the cache. */
+        private final transient LongAdder evictions;
+
+        /**
+         * @param capacity Maximum number of entries in the stripe
+         * @param evictions Counter of evicted entries
+         */
+        private Stripe(final int capacity, final LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        /**
+         * @param key Key to look up
+         * @return Cached value, or null if there is none
+         */
+        private synchronized V getValue(final K key) {
+            return get(key);
+        }
+
+        /**
+         * @param key Key to cache the value under
+         * @param value Value to cache
+         */
+        private synchronized void putValue(final K key, final V value) {
+            put(key, value);
+        }
+
+        /**
+         * @return Number of entries in the stripe
+         */
+        private synchronized int sizeOf() {
+            return size();
+        }
+
+        /**
+         * Remove every entry from the stripe.
+         */
+        private synchronized void clearAll() {
+            clear();
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.util.Arrays;
+
+/**
+ * Immutable {@link CharSequence} view of the sentence of PGP Words for some bytes, e.g. a fingerprint, that produces
+ * its characters on demand rather than building a String. The view holds a copy of the bytes and a table of the offset
+ * at which each word starts, computed from the word lengths, so {@link #length()} is immediate and {@link #charAt(int)}
+ * finds its word with a binary search. {@link #subSequence(int, int)} returns another view, and a String is only
+ * created if {@link #toString()} is called.
+ * <p>
+ * Two views are equal if they are for the same bytes with the same separator, regardless of how they were created.
+ * Note that, as with other {@link CharSequence} implementations, a view is never equal to a String with the same
+ * characters.
+ *
+ * @author Chris Rowe
+ */
+public final class PGPPhraseView implements CharSequence {
+
+    /** PGP Words and their associated hexadecimal values. */
+    private final PGPWordList pgpWordList;
+
+    /** Bytes represented by the sentence. */
+    private final byte[] bytes;
+
+    /** Separator placed between consecutive words. */
+    private final String separator;
+
+    /** Offset of the first character of each word, followed by the length of the sentence plus the separator. */
+    private final int[] offsets;
+
+    /**
+     * Create a view that separates words with {@link PGPWordListConverter#DEFAULT_SEPARATOR}.
+     *
+     * @param bytes Bytes represented by the sentence. The array is copied, so may be changed afterwards.
+     */
+    public PGPPhraseView(final byte[] bytes) {
+        this(bytes, PGPWordListConverter.DEFAULT_SEPARATOR);
+    }
+
+    /**
+     * @param bytes Bytes represented by the sentence. The array is copied, so may be changed afterwards.
+     * @param separator Separator placed between consecutive words
+     */
+    public PGPPhraseView(final byte[] bytes, final String separator) {
+        this(new PGPWordList(), bytes, separator);
+    }
+
+    /**
+     * @param pgpWordList Word list to take the words from
+     * @param bytes Bytes represented by the sentence. The array is copied, so may be changed afterwards.
+     * @param separator Separator placed between consecutive words
+     */
+    public PGPPhraseView(final PGPWordList pgpWordList, final byte[] bytes, final String separator) {
+        if (pgpWordList == null) {
+            throw new NullPointerException("Word list must not be null");
+        } else if (separator == null) {
+            throw new NullPointerException("Separator must not be null");
+        }
+
+        this.pgpWordList = pgpWordList;
+        this.bytes = bytes.clone();
+        this.separator = separator;
+        this.offsets = new int[this.bytes.length + 1];
+        long offset = 0;
+        for (int i = 0; i < this.bytes.length; i++) {
+            offsets[i] = (int) offset;
+            offset += word(i).length() + separator.length();
+            if (offset > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many bytes to view as a single CharSequence");
+            }
+        }
+        offsets[this.bytes.length] = (int) offset;
+    }
+
+    /**
+     * @return Copy of the bytes represented by the sentence
+     */
+    public byte[] getBytes() {
+        return bytes.clone();
+    }
+
+    /**
+     * @return Number of words in the sentence
+     */
+    public int getWordCount() {
+        return bytes.length;
+    }
+
+    /**
+     * @param position Position of the word in the sentence
+     * @return Word at the position, i.e. the even word for the byte at an even position, otherwise the odd word
+     */
+    public String getWord(final int position) {
+        if (position < 0 || position >= bytes.length) {
+            throw new IndexOutOfBoundsException(String.format("Position %d is out of bounds for %d words",
+                    position, bytes.length));
+        }
+
+        return word(position);
+    }
+
+    @Override
+    public int length() {
+        return bytes.length == 0 ? 0 : offsets[bytes.length] - separator.length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException(String.format("Index %d is out of bounds for length %d",
+                    index, length()));
+        }
+
+        final int position = positionOf(index);
+        final String word = word(position);
+        final int offset = index - offsets[position];
+
+        return offset < word.length() ? word.charAt(offset) : separator.charAt(offset - word.length());
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if (start < 0 || end > length() || start > end) {
+            throw new IndexOutOfBoundsException(String.format("Range [%d, %d) is out of bounds for length %d",
+                    start, end, length()));
+        }
+
+        return new SubSequence(start, end);
+    }
+
+    /**
+     * Append the characters in a range of the sentence to a builder, a word at a time.
+     *
+     * @param output Builder to append to
+     * @param start Index of the first character to append
+     * @param end Index after the last character to append
+     */
+    private void appendTo(final StringBuilder output, final int start, final int end) {
+        int index = start;
+        while (index < end) {
+            final int position = positionOf(index);
+            final String word = word(position);
+            final int offset = index - offsets[position];
+            if (offset < word.length()) {
+                final int count = Math.min(word.length() - offset, end - index);
+                output.append(word, offset, offset + count);
+                index += count;
+            } else {
+                final int separatorOffset = offset - word.length();
+                final int count = Math.min(separator.length() - separatorOffset, end - index);
+                output.append(separator, separatorOffset, separatorOffset + count);
+                index += count;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(length());
+        appendTo(builder, 0, length());
+
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        } else if (!(other instanceof PGPPhraseView)) {
+            return false;
+        }
+
+        final PGPPhraseView view = (PGPPhraseView) other;
+        return Arrays.equals(bytes, view.bytes) && separator.equals(view.separator);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+
+    /**
+     * @param index Index of a character in the sentence
+     * @return Position of the word containing the character, or preceding it if the character is in a separator
+     */
+    private int positionOf(final int index) {
+        final int found = Arrays.binarySearch(offsets, 0, bytes.length, index);
+        return found >= 0 ? found : -found - 2;
+    }
+
+    /**
+     * @param position Position of the word in the sentence
+     * @return Word at the position
+     */
+    private String word(final int position) {
+        return pgpWordList.getWord(bytes[position] & 0xFF, position);
+    }
+
+    /**
+     * View of a range of the sentence, which also produces its characters on demand.
+     */
+    private final class SubSequence implements CharSequence {
+
+        /** Index in the sentence of the first character. */
+        private final int start;
+
+        /** Index in the sentence after the last character. */
+        private final int end;
+
+        /**
+         * @param start Index in the sentence of the first character
+         * @param end Index in the sentence after the last character
+         */
+        private SubSequence(final int start, final int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= end - start) {
+                throw new IndexOutOfBoundsException(String.format("Index %d is out of bounds for length %d",
+                        index, end - start));
+            }
+
+            return PGPPhraseView.this.charAt(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int subStart, final int subEnd) {
+            if (subStart < 0 || subEnd > end - start || subStart > subEnd) {
+                throw new IndexOutOfBoundsException(String.format("Range [%d, %d) is out of bounds for length %d",
+                        subStart, subEnd, end - start));
+            }
+
+            return new SubSequence(start + subStart, start + subEnd);
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder(end - start);
+            appendTo(builder, start, end);
+
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts between bytes and PGP Words held as ASCII bytes, without going through {@link String} or a charset. Every
+ * word in the list is ASCII, so the words are encoded once up front and copied straight into the output, and words
+ * are looked up directly from ASCII input. This suits output that is destined for HTTP responses, logs or files.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordAsciiCodec {
+
+    /** PGP Words and their associated hexadecimal values. */
+    private final PGPWordList pgpWordList;
+
+    /** ASCII bytes of the separator placed between consecutive words. */
+    private final byte[] separator;
+
+    /**
+     * Create a codec that separates words with {@link PGPWordListConverter#DEFAULT_SEPARATOR}.
+     */
+    public PGPWordAsciiCodec() {
+        this(PGPWordListConverter.DEFAULT_SEPARATOR);
+    }
+
+    /**
+     * @param separator Separator placed between consecutive words. Must be ASCII, and should be whitespace if the
+     *     output is to be decoded again.
+     */
+    public PGPWordAsciiCodec(final String separator) {
+        this(new PGPWordList(), separator);
+    }
+
+    /**
+     * @param pgpWordList Word list to convert with
+     * @param separator Separator placed between consecutive words. Must be ASCII, and should be whitespace if the
+     *     output is to be decoded again.
+     */
+    public PGPWordAsciiCodec(final PGPWordList pgpWordList, final String separator) {
+        if (pgpWordList == null) {
+            throw new NullPointerException("Word list must not be null");
+        } else if (separator == null) {
+            throw new NullPointerException("Separator must not be null");
+        }
+        for (int i = 0; i < separator.length(); i++) {
+            if (separator.charAt(i) > 0x7F) {
+                throw new IllegalArgumentException(String.format("Separator is not ASCII: %s", separator));
+            }
+        }
+
+        this.pgpWordList = pgpWordList;
+        this.separator = separator.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * @param length Number of bytes to encode
+     * @return Maximum number of ASCII bytes the words for that many bytes can take
+     */
+    public int maxEncodedLength(final int length) {
+        return length == 0 ? 0 : length * (pgpWordList.getMaximumWordLength() + separator.length) - separator.length;
+    }
+
+    /**
+     * Convert the provided bytes into a sentence of PGP Words, as ASCII.
+     *
+     * @param bytes Bytes to convert
+     * @return ASCII bytes of the PGP Words representing the bytes
+     */
+    public byte[] encode(final byte[] bytes) {
+        final byte[] output = new byte[encodedLength(bytes, 0, bytes.length)];
+        encode(bytes, 0, bytes.length, output, 0);
+
+        return output;
+    }
+
+    /**
+     * Convert a range of the provided bytes into PGP Words, writing them as ASCII into the supplied array. The first
+     * byte of the range is treated as being at an even position.
+     *
+     * @param bytes Bytes to convert
+     * @param offset Index of first byte to convert
+     * @param length Number of bytes to convert
+     * @param output Array to write words to, which must have room for {@link #maxEncodedLength(int)} bytes
+     * @param outputOffset Index in the array to write the first word to
+     * @return Number of bytes written
+     *
+     * @throws IndexOutOfBoundsException If the array does not have room for the words
+     */
+    public int encode(final byte[] bytes, final int offset, final int length, final byte[] output,
+                      final int outputOffset) {
+        Ranges.checkRange(bytes, offset, length);
+
+        int outputIndex = outputOffset;
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                System.arraycopy(separator, 0, output, outputIndex, separator.length);
+                outputIndex += separator.length;
+            }
+            final byte[] word = word(bytes[offset + i], i);
+            System.arraycopy(word, 0, output, outputIndex, word.length);
+            outputIndex += word.length;
+        }
+
+        return outputIndex - outputOffset;
+    }
+
+    /**
+     * Convert a range of the provided bytes into PGP Words, writing them as ASCII into the supplied buffer. The first
+     * byte of the range is treated as being at an even position.
+     *
+     * @param bytes Bytes to convert
+     * @param offset Index of first byte to convert
+     * @param length Number of bytes to convert
+     * @param output Buffer to write words to
+     *
+     * @throws java.nio.BufferOverflowException If the buffer does not have room for the words
+     */
+    public void encode(final byte[] bytes, final int offset, final int length, final ByteBuffer output) {
+        Ranges.checkRange(bytes, offset, length);
+
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                output.put(separator);
+            }
+            output.put(word(bytes[offset + i], i));
+        }
+    }
+
+    /**
+     * Convert a range of the provided bytes into PGP Words, writing them as ASCII to the supplied stream. The first
+     * byte of the range is treated as being at an even position.
+     *
+     * @param bytes Bytes to convert
+     * @param offset Index of first byte to convert
+     * @param length Number of bytes to convert
+     * @param output Stream to write words to
+     *
+     * @throws IOException If the words cannot be written to the stream
+     */
+    public void encode(final byte[] bytes, final int offset, final int length, final OutputStream output)
+            throws IOException {
+        Ranges.checkRange(bytes, offset, length);
+
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                output.write(separator);
+            }
+            output.write(word(bytes[offset + i], i));
+        }
+    }
+
+    /**
+     * Convert a sentence of PGP Words, held as ASCII, back into the bytes it represents. Words may be separated by any
+     * amount of ASCII whitespace and are matched case-insensitively. Each word must come from the column matching its
+     * position.
+     *
+     * @param ascii ASCII bytes of the sentence
+     * @return Bytes represented by the words
+     *
+     * @throws InvalidPGPWordException If a word is not recognised, or appears at the wrong position
+     */
+    public byte[] decode(final byte[] ascii) throws InvalidPGPWordException {
+        final byte[] bytes = new byte[PGPWordTokenizer.countWords(ascii, 0, ascii.length)];
+        decode(ascii, 0, ascii.length, bytes, 0);
+
+        return bytes;
+    }
+
+    /**
+     * Convert a sentence of PGP Words, held as ASCII, back into the bytes it represents, writing them into the supplied
+     * array. Words are tokenised and validated in the same way as {@link #decode(byte[])}.
+     *
+     * @param ascii Array holding the ASCII bytes of the sentence
+     * @param offset Index of the first byte of the sentence
+     * @param length Number of bytes in the sentence
+     * @param output Array to write decoded bytes to
+     * @param outputOffset Index in the array to write the first decoded byte to
+     * @return Number of bytes written
+     *
+     * @throws InvalidPGPWordException If a word is not recognised, or appears at the wrong position
+     */
+    public int decode(final byte[] ascii, final int offset, final int length, final byte[] output,
+                      final int outputOffset) throws InvalidPGPWordException {
+        Ranges.checkRange(ascii, offset, length);
+
+        final int end = offset + length;
+        int position = 0;
+        int index = offset;
+        while (true) {
+            final int start = PGPWordTokenizer.skipWhitespace(ascii, index, end);
+            if (start == end) {
+                return position;
+            }
+
+            index = PGPWordTokenizer.skipWord(ascii, start, end);
+            final int value = pgpWordList.lookupWord(ascii, start, index);
+            if (!PGPWordList.isWordAt(value, position)) {
+                throw new InvalidPGPWordException(InvalidPGPWordException.message(value, position,
+                        new String(ascii, start, index - start, StandardCharsets.US_ASCII)));
+            }
+
+            output[outputOffset + position] = (byte) value;
+            position++;
+        }
+    }
+
+    /**
+     * @param value Byte to convert
+     * @param position Position of the byte within the sentence
+     * @return ASCII bytes of the even word if position is even, otherwise the odd word
+     */
+    private byte[] word(final byte value, final int position) {
+        return word(value & 0xFF, position);
+    }
+
+    /**
+     * @param hexValue Hex value, between 00 and FF
+     * @param position Position of the word in the sentence
+     * @return ASCII bytes of the word, which must not be modified
+     */
+    byte[] word(final int hexValue, final long position) {
+        return pgpWordList.getAsciiWord(hexValue, position);
+    }
+
+    /**
+     * @return Length of the longest word, in ASCII bytes
+     */
+    int maxWordLength() {
+        return pgpWordList.getMaximumWordLength();
+    }
+
+    /**
+     * @param bytes Bytes to convert
+     * @param offset Index of first byte to convert
+     * @param length Number of bytes to convert
+     * @return Exact number of ASCII bytes needed for the words
+     */
+    private int encodedLength(final byte[] bytes, final int offset, final int length) {
+        int encodedLength = length == 0 ? 0 : (length - 1) * separator.length;
+        for (int i = 0; i < length; i++) {
+            encodedLength += word(bytes[offset + i], i).length;
+        }
+
+        return encodedLength;
+    }
+}
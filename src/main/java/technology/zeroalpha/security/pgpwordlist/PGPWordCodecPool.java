@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Supplies reusable {@link PGPWordEncoder} and {@link PGPWordDecoder} instances, so that a warmed-up service can encode
+ * and decode without allocating per request. Two strategies are offered:
+ * <ul>
+ *     <li>Thread-local instances, via {@link #getThreadLocalEncoder()} and {@link #getThreadLocalDecoder()}, which
+ *     suit a fixed set of long-lived threads.</li>
+ *     <li>A bounded pool, via the borrow and release methods, which suits thread pools that grow and shrink. When the
+ *     pool is empty a new instance is created, and instances released to a full pool are discarded, so the pool never
+ *     blocks.</li>
+ * </ul>
+ * Thread-local instances always use the standard PGP Word List, while a pool uses the list it was created with.
+ * Instances handed out are always reset. Pools are thread-safe, but each encoder or decoder must only be used by one
+ * thread at a time.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordCodecPool {
+
+    /** Encoder for each thread. */
+    private static final ThreadLocal<PGPWordEncoder> THREAD_ENCODER = ThreadLocal.withInitial(PGPWordEncoder::new);
+
+    /** Decoder for each thread. */
+    private static final ThreadLocal<PGPWordDecoder> THREAD_DECODER = ThreadLocal.withInitial(PGPWordDecoder::new);
+
+    /** Word list used by the encoders and decoders the pool creates. */
+    private final PGPWordList pgpWordList;
+
+    /** Idle encoders. */
+    private final BlockingQueue<PGPWordEncoder> encoders;
+
+    /** Idle decoders. */
+    private final BlockingQueue<PGPWordDecoder> decoders;
+
+    /**
+     * @param capacity Maximum number of idle encoders, and of idle decoders, held by the pool
+     */
+    public PGPWordCodecPool(final int capacity) {
+        this(new PGPWordList(), capacity);
+    }
+
+    /**
+     * @param pgpWordList Word list used by the encoders and decoders the pool creates
+     * @param capacity Maximum number of idle encoders, and of idle decoders, held by the pool
+     */
+    public PGPWordCodecPool(final PGPWordList pgpWordList, final int capacity) {
+        if (pgpWordList == null) {
+            throw new NullPointerException("Word list must not be null");
+        } else if (capacity < 1) {
+            throw new IllegalArgumentException(String.format("Pool capacity must be at least 1: %d", capacity));
+        }
+
+        this.pgpWordList = pgpWordList;
+        this.encoders = new ArrayBlockingQueue<>(capacity);
+        this.decoders = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * @return Reset encoder belonging to the calling thread, separating words with
+     *     {@link PGPWordListConverter#DEFAULT_SEPARATOR}
+     */
+    public static PGPWordEncoder getThreadLocalEncoder() {
+        return THREAD_ENCODER.get().reset();
+    }
+
+    /**
+     * @return Reset decoder belonging to the calling thread
+     */
+    public static PGPWordDecoder getThreadLocalDecoder() {
+        return THREAD_DECODER.get().reset();
+    }
+
+    /**
+     * Take an idle encoder from the pool, creating one if the pool is empty. The encoder should be returned with
+     * {@link #release(PGPWordEncoder)} once finished with.
+     *
+     * @return Reset encoder, separating words with {@link PGPWordListConverter#DEFAULT_SEPARATOR}
+     */
+    public PGPWordEncoder borrowEncoder() {
+        final PGPWordEncoder encoder = encoders.poll();
+        return encoder == null ? new PGPWordEncoder(pgpWordList, PGPWordListConverter.DEFAULT_SEPARATOR) : encoder;
+    }
+
+    /**
+     * Take an idle decoder from the pool, creating one if the pool is empty. The decoder should be returned with
+     * {@link #release(PGPWordDecoder)} once finished with.
+     *
+     * @return Reset decoder
+     */
+    public PGPWordDecoder borrowDecoder() {
+        final PGPWordDecoder decoder = decoders.poll();
+        return decoder == null ? new PGPWordDecoder(pgpWordList) : decoder;
+    }
+
+    /**
+     * Reset an encoder and return it to the pool. It is discarded if the pool is full. The encoder, and any sequence it
+     * returned, must not be used after it has been released.
+     *
+     * @param encoder Encoder previously taken from {@link #borrowEncoder()}
+     */
+    public void release(final PGPWordEncoder encoder) {
+        encoders.offer(encoder.reset());
+    }
+
+    /**
+     * Reset a decoder and return it to the pool. It is discarded if the pool is full. The decoder, and any buffer it
+     * returned, must not be used after it has been released.
+     *
+     * @param decoder Decoder previously taken from {@link #borrowDecoder()}
+     */
+    public void release(final PGPWordDecoder decoder) {
+        decoders.offer(decoder.reset());
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CoderResult;
+import java.util.Arrays;
+
+/**
+ * Stateful decoder from PGP Words to bytes, operating directly on NIO buffers in the style of
+ * {@link java.nio.charset.CharsetDecoder}. Buffers may be heap or direct, and words are matched in place without any
+ * intermediate copies. Words may be separated by any amount of whitespace and are matched case-insensitively.
+ * <p>
+ * The decoder tracks the position of each word across calls, so a sentence can be decoded through any number of
+ * buffers. A word that is cut off by the end of the source buffer is left in the buffer, to be decoded once more input
+ * has been added (e.g. after {@link CharBuffer#compact()}). Call {@link #reset()} before decoding a new, unrelated
+ * sentence. Instances are NOT thread-safe.
+ * <p>
+ * A decoder owns the buffer used by {@link #decode(CharSequence)}, so a single instance can be reset and reused for any
+ * number of sentences without allocating. {@link PGPWordCodecPool} provides thread-local and pooled instances.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordDecoder {
+
+    /** PGP Words and their associated hexadecimal values. */
+    private final PGPWordList pgpWordList;
+
+    /** Reusable array holding the bytes produced by {@link #decode(CharSequence)}. */
+    private byte[] bytes = new byte[0];
+
+    /** View of {@link #bytes}, recreated only when the array grows. */
+    private ByteBuffer bytesView = ByteBuffer.wrap(bytes);
+
+    /** Number of words decoded since the last reset. */
+    private long position;
+
+    /**
+     * No-arg constructor.
+     */
+    public PGPWordDecoder() {
+        this(new PGPWordList());
+    }
+
+    /**
+     * @param pgpWordList Word list to convert with
+     */
+    public PGPWordDecoder(final PGPWordList pgpWordList) {
+        if (pgpWordList == null) {
+            throw new NullPointerException("Word list must not be null");
+        }
+
+        this.pgpWordList = pgpWordList;
+    }
+
+    /**
+     * Decode as many words as possible from the source buffer into the destination buffer.
+     *
+     * @param src Words to decode. Its position is advanced past every word that is decoded, and any whitespace that
+     *     follows it.
+     * @param dst Buffer to write bytes to. Its position is advanced past every byte written.
+     * @param endOfInput Whether the source buffer holds the last of the input. If false, a word running up to the limit
+     *     of the source buffer may be incomplete, so is left in the buffer.
+     * @return {@link CoderResult#UNDERFLOW} if all complete words were decoded, {@link CoderResult#OVERFLOW} if the
+     *     destination is full, a malformed-input result if the next word is not recognised, or an unmappable-character
+     *     result if the next word appears at the wrong position. For errors, the source position is left at the start of
+     *     the offending word, and the result's length is the length of the word.
+     */
+    public CoderResult decode(final CharBuffer src, final ByteBuffer dst, final boolean endOfInput) {
+        final int maximumWordLength = pgpWordList.getMaximumWordLength();
+
+        while (true) {
+            // CharBuffer indexes relative to its position, so the word is found relative to the position too
+            Buffers.position(src, src.position() + PGPWordTokenizer.skipWhitespace(src, 0, src.remaining()));
+            final int remaining = src.remaining();
+            if (remaining == 0) {
+                return CoderResult.UNDERFLOW;
+            }
+
+            final int length = PGPWordTokenizer.skipWord(src, 0, remaining);
+            if (length == remaining && !endOfInput && length <= maximumWordLength) {
+                return CoderResult.UNDERFLOW;
+            } else if (!dst.hasRemaining()) {
+                return CoderResult.OVERFLOW;
+            }
+
+            final int value = pgpWordList.lookupWord(src, 0, length);
+            if (value == PGPWordList.NOT_FOUND) {
+                return CoderResult.malformedForLength(length);
+            } else if (!PGPWordList.isWordAt(value, position)) {
+                return CoderResult.unmappableForLength(length);
+            }
+
+            dst.put((byte) value);
+            Buffers.position(src, src.position() + length);
+            position++;
+        }
+    }
+
+    /**
+     * Reset the decoder and decode a complete sentence into a buffer owned by the decoder. Words are tokenised and
+     * validated in the same way as {@link #decode(CharBuffer, ByteBuffer, boolean)}. Once the buffer has grown to fit
+     * the longest sentence, no further allocation takes place unless a word is invalid.
+     *
+     * @param words Sentence of PGP Words
+     * @return Buffer holding the decoded bytes between its position and limit. The buffer is only valid until this
+     *     decoder is next used, so its contents should be copied if they need to be kept.
+     *
+     * @throws InvalidPGPWordException If a word is not recognised, or appears at the wrong position
+     */
+    public ByteBuffer decode(final CharSequence words) throws InvalidPGPWordException {
+        if (words == null) {
+            throw new InvalidPGPWordException("Cannot convert null to bytes");
+        }
+
+        reset();
+        final int length = words.length();
+        int index = 0;
+        while (true) {
+            final int start = PGPWordTokenizer.skipWhitespace(words, index, length);
+            if (start == length) {
+                break;
+            }
+
+            index = PGPWordTokenizer.skipWord(words, start, length);
+            final int value = pgpWordList.lookupWord(words, start, index);
+            if (!PGPWordList.isWordAt(value, position)) {
+                throw new InvalidPGPWordException(
+                        InvalidPGPWordException.message(value, position, words.subSequence(start, index)));
+            }
+
+            if (position == bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(16, bytes.length * 2));
+                bytesView = ByteBuffer.wrap(bytes);
+            }
+            bytes[(int) position] = (byte) value;
+            position++;
+        }
+
+        Buffers.clear(bytesView);
+        Buffers.limit(bytesView, (int) position);
+        return bytesView;
+    }
+
+    /**
+     * @return Number of words decoded since the last reset
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Reset the decoder, so that the next word decoded is treated as the first word of a new sentence.
+     *
+     * @return This decoder
+     */
+    public PGPWordDecoder reset() {
+        position = 0;
+        return this;
+    }
+}
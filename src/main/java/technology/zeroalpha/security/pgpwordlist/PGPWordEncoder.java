@@ -0,0 +1,159 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CoderResult;
+
+/**
+ * Stateful encoder from bytes to PGP Words, operating directly on NIO buffers in the style of
+ * {@link java.nio.charset.CharsetEncoder}. Buffers may be heap or direct, and are read and written in place without any
+ * intermediate copies.
+ * <p>
+ * The encoder tracks the position of each byte across calls, so a stream of bytes can be encoded through any number of
+ * buffers. Call {@link #reset()} before encoding a new, unrelated stream. Instances are NOT thread-safe.
+ * <p>
+ * An encoder owns the buffer used by {@link #encode(byte[], int, int)}, so a single instance can be reset and reused
+ * for any number of sentences without allocating. {@link PGPWordCodecPool} provides thread-local and pooled instances.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordEncoder {
+
+    /** PGP Words and their associated hexadecimal values. */
+    private final PGPWordList pgpWordList;
+
+    /** Separator placed between consecutive words. */
+    private final String separator;
+
+    /** Reusable buffer holding the sentence produced by {@link #encode(byte[], int, int)}. */
+    private final StringBuilder sentence = new StringBuilder();
+
+    /** Number of bytes encoded since the last reset. */
+    private long position;
+
+    /**
+     * Create an encoder that separates words with {@link PGPWordListConverter#DEFAULT_SEPARATOR}.
+     */
+    public PGPWordEncoder() {
+        this(PGPWordListConverter.DEFAULT_SEPARATOR);
+    }
+
+    /**
+     * @param separator Separator placed between consecutive words
+     */
+    public PGPWordEncoder(final String separator) {
+        this(new PGPWordList(), separator);
+    }
+
+    /**
+     * @param pgpWordList Word list to convert with
+     * @param separator Separator placed between consecutive words
+     */
+    public PGPWordEncoder(final PGPWordList pgpWordList, final String separator) {
+        if (pgpWordList == null) {
+            throw new NullPointerException("Word list must not be null");
+        } else if (separator == null) {
+            throw new NullPointerException("Separator must not be null");
+        }
+
+        this.pgpWordList = pgpWordList;
+        this.separator = separator;
+    }
+
+    /**
+     * Encode as many bytes as possible from the source buffer into the destination buffer. A word is only written if
+     * it fits completely, along with its preceding separator, so the destination never holds a partial word.
+     *
+     * @param src Bytes to encode. Its position is advanced past every byte that is encoded.
+     * @param dst Buffer to write words to. Its position is advanced past every character written.
+     * @return {@link CoderResult#UNDERFLOW} if every byte was encoded, or {@link CoderResult#OVERFLOW} if the
+     *     destination does not have room for the next word
+     */
+    public CoderResult encode(final ByteBuffer src, final CharBuffer dst) {
+        while (src.hasRemaining()) {
+            final int hexValue = src.get(src.position()) & 0xFF;
+            final String word = pgpWordList.getWord(hexValue, position);
+            final boolean needsSeparator = position > 0;
+
+            if (dst.remaining() < word.length() + (needsSeparator ? separator.length() : 0)) {
+                return CoderResult.OVERFLOW;
+            }
+            if (needsSeparator) {
+                dst.put(separator);
+            }
+            dst.put(word);
+
+            Buffers.position(src, src.position() + 1);
+            position++;
+        }
+
+        return CoderResult.UNDERFLOW;
+    }
+
+    /**
+     * Reset the encoder and encode a range of bytes as a complete sentence, into a buffer owned by the encoder. Once the
+     * buffer has grown to fit the longest sentence, no further allocation takes place.
+     *
+     * @param bytes Bytes to encode
+     * @param offset Index of first byte to encode
+     * @param length Number of bytes to encode
+     * @return PGP Words representing the bytes. The sequence is only valid until this encoder is next used or reset,
+     *     so should be copied (e.g. with {@code toString()}) if it needs to be kept.
+     */
+    public CharSequence encode(final byte[] bytes, final int offset, final int length) {
+        Ranges.checkRange(bytes, offset, length);
+
+        reset();
+        for (int i = offset; i < offset + length; i++) {
+            final int hexValue = bytes[i] & 0xFF;
+            if (position > 0) {
+                sentence.append(separator);
+            }
+            sentence.append(pgpWordList.getWord(hexValue, position));
+            position++;
+        }
+
+        return sentence;
+    }
+
+    /**
+     * @return Number of bytes encoded since the last reset
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Reset the encoder, so that the next byte encoded is treated as the first byte of a new sentence.
+     *
+     * @return This encoder
+     */
+    public PGPWordEncoder reset() {
+        position = 0;
+        sentence.setLength(0);
+        return this;
+    }
+}
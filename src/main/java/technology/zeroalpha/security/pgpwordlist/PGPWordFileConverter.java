@@ -0,0 +1,348 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Converts whole files between binary data and PGP Word listings. Input files are memory-mapped and processed in
+ * chunks, so memory use is bounded regardless of file size. Encoding can optionally be spread across several threads:
+ * the position (and so the parity) of every byte is known from its offset in the file, so each chunk is encoded
+ * independently and the results are written in order.
+ * <p>
+ * Listings contain a fixed number of words per line, and end with a line break. Any whitespace is accepted between
+ * words when decoding.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordFileConverter {
+
+    /** Number of words written per line when none is specified. */
+    public static final int DEFAULT_WORDS_PER_LINE = 8;
+
+    /** Largest region of a file that is memory-mapped at once. */
+    private static final int REGION_SIZE = 1 << 28;
+
+    /** Number of input bytes encoded by a single task. */
+    private static final int CHUNK_SIZE = 1 << 18;
+
+    /** Size of the buffers used while decoding. */
+    private static final int DECODE_BUFFER_SIZE = 1 << 16;
+
+    /** PGP Words and their associated hexadecimal values. */
+    private final PGPWordList pgpWordList;
+
+    /** Codec supplying the ASCII bytes of each word. */
+    private final PGPWordAsciiCodec asciiCodec;
+
+    /** Number of words written per line. */
+    private final int wordsPerLine;
+
+    /** Number of threads used to encode. */
+    private final int threads;
+
+    /**
+     * Create a converter that encodes on a single thread, with {@link #DEFAULT_WORDS_PER_LINE} words per line.
+     */
+    public PGPWordFileConverter() {
+        this(DEFAULT_WORDS_PER_LINE, 1);
+    }
+
+    /**
+     * @param wordsPerLine Number of words written per line
+     * @param threads Number of threads used to encode
+     */
+    public PGPWordFileConverter(final int wordsPerLine, final int threads) {
+        this(new PGPWordList(), wordsPerLine, threads);
+    }
+
+    /**
+     * @param pgpWordList Word list to convert with
+     * @param wordsPerLine Number of words written per line
+     * @param threads Number of threads used to encode
+     */
+    public PGPWordFileConverter(final PGPWordList pgpWordList, final int wordsPerLine, final int threads) {
+        if (pgpWordList == null) {
+            throw new NullPointerException("Word list must not be null");
+        } else if (wordsPerLine < 1 || threads < 1) {
+            throw new IllegalArgumentException("Words per line and threads must both be at least 1");
+        }
+
+        this.pgpWordList = pgpWordList;
+        this.asciiCodec = new PGPWordAsciiCodec(pgpWordList, PGPWordListConverter.DEFAULT_SEPARATOR);
+        this.wordsPerLine = wordsPerLine;
+        this.threads = threads;
+    }
+
+    /**
+     * Encode a binary file into a PGP Word listing.
+     *
+     * @param input File to encode
+     * @param output File to write the listing to. It is created if necessary, and replaced if it exists.
+     * @return Number of bytes encoded
+     *
+     * @throws IOException If either file cannot be accessed
+     */
+    public long encode(final Path input, final Path output) throws IOException {
+        final ExecutorService executor = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            final long size = in.size();
+            final Deque<Future<ByteBuffer>> pending = new ArrayDeque<>();
+
+            for (long regionOffset = 0; regionOffset < size; regionOffset += REGION_SIZE) {
+                final MappedByteBuffer region = in.map(FileChannel.MapMode.READ_ONLY, regionOffset,
+                        Math.min(REGION_SIZE, size - regionOffset));
+
+                for (int chunkOffset = 0; chunkOffset < region.capacity(); chunkOffset += CHUNK_SIZE) {
+                    final ByteBuffer chunk = slice(region, chunkOffset,
+                            Math.min(CHUNK_SIZE, region.capacity() - chunkOffset));
+                    final long position = regionOffset + chunkOffset;
+
+                    if (executor == null) {
+                        writeFully(out, encodeChunk(chunk, position));
+                    } else {
+                        pending.add(executor.submit(() -> encodeChunk(chunk, position)));
+                        if (pending.size() >= threads * 2) {
+                            writeFully(out, await(pending.remove()));
+                        }
+                    }
+                }
+            }
+            while (!pending.isEmpty()) {
+                writeFully(out, await(pending.remove()));
+            }
+
+            if (size > 0) {
+                writeFully(out, ByteBuffer.wrap(new byte[] {'\n'}));
+            }
+            return size;
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Decode a PGP Word listing back into a binary file.
+     *
+     * @param input Listing to decode
+     * @param output File to write the bytes to. It is created if necessary, and replaced if it exists.
+     * @return Number of bytes decoded
+     *
+     * @throws IOException If either file cannot be accessed
+     * @throws InvalidPGPWordException If the listing contains an invalid word, or a word at the wrong position
+     */
+    public long decode(final Path input, final Path output) throws IOException, InvalidPGPWordException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            final long size = in.size();
+            final CharsetDecoder ascii = StandardCharsets.US_ASCII.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT);
+            final PGPWordDecoder decoder = new PGPWordDecoder(pgpWordList);
+            final CharBuffer chars = CharBuffer.allocate(DECODE_BUFFER_SIZE);
+            final ByteBuffer bytes = ByteBuffer.allocate(DECODE_BUFFER_SIZE);
+
+            for (long regionOffset = 0; regionOffset < size; regionOffset += REGION_SIZE) {
+                final MappedByteBuffer region = in.map(FileChannel.MapMode.READ_ONLY, regionOffset,
+                        Math.min(REGION_SIZE, size - regionOffset));
+                final boolean lastRegion = regionOffset + REGION_SIZE >= size;
+
+                while (true) {
+                    if (ascii.decode(region, chars, lastRegion).isError()) {
+                        throw new InvalidPGPWordException(String.format(
+                                "Listing contains non-ASCII data at byte %d", regionOffset + region.position()));
+                    }
+
+                    Buffers.flip(chars);
+                    final CoderResult result = decoder.decode(chars, bytes, lastRegion && !region.hasRemaining());
+                    if (result.isError()) {
+                        final long position = decoder.getPosition();
+                        final CharSequence word = chars.subSequence(0, result.length());
+                        throw new InvalidPGPWordException(result.isMalformed()
+                                ? InvalidPGPWordException.unrecognisedMessage(position, word)
+                                : InvalidPGPWordException.wrongParityMessage(position, word));
+                    }
+                    chars.compact();
+
+                    Buffers.flip(bytes);
+                    writeFully(out, bytes);
+                    Buffers.clear(bytes);
+
+                    if (!region.hasRemaining() && result.isUnderflow()) {
+                        break;
+                    }
+                }
+            }
+
+            return decoder.getPosition();
+        }
+    }
+
+    /**
+     * Encode a chunk of the input file.
+     *
+     * @param chunk Bytes to encode
+     * @param position Offset of the chunk within the file, which determines the parity of each byte and where line
+     *     breaks fall
+     * @return Encoded words, ready to be written
+     */
+    private ByteBuffer encodeChunk(final ByteBuffer chunk, final long position) {
+        final int length = chunk.remaining();
+        final byte[] output = new byte[length * (asciiCodec.maxWordLength() + 1)];
+        int outputLength = 0;
+
+        for (int i = 0; i < length; i++) {
+            final long bytePosition = position + i;
+            if (bytePosition > 0) {
+                output[outputLength++] = (byte) (bytePosition % wordsPerLine == 0 ? '\n' : ' ');
+            }
+
+            final int hexValue = chunk.get(i) & 0xFF;
+            final byte[] word = asciiCodec.word(hexValue, bytePosition);
+            System.arraycopy(word, 0, output, outputLength, word.length);
+            outputLength += word.length;
+        }
+
+        return ByteBuffer.wrap(output, 0, outputLength);
+    }
+
+    /**
+     * @param buffer Buffer to slice
+     * @param offset Index of the first byte of the slice
+     * @param length Number of bytes in the slice
+     * @return Independent view of the given range of the buffer, indexed from zero
+     */
+    private static ByteBuffer slice(final ByteBuffer buffer, final int offset, final int length) {
+        final ByteBuffer duplicate = buffer.duplicate();
+        Buffers.position(duplicate, offset);
+        Buffers.limit(duplicate, offset + length);
+
+        return duplicate.slice();
+    }
+
+    /**
+     * @param channel Channel to write to
+     * @param buffer Bytes to write
+     *
+     * @throws IOException If the bytes cannot be written
+     */
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * @param future Result of an encoding task
+     * @return Encoded words
+     *
+     * @throws IOException If the task failed, or the thread was interrupted while waiting
+     */
+    private static ByteBuffer await(final Future<ByteBuffer> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while encoding", e);
+        } catch (final ExecutionException e) {
+            throw new IOException("Failed to encode chunk", e.getCause());
+        }
+    }
+
+    /**
+     * Command line entry point, for use from scripts:
+     * <pre>
+     * java -jar j-pgp-wordlist.jar (encode|decode) [--threads N] [--words-per-line N] &lt;input&gt; &lt;output&gt;
+     * </pre>
+     *
+     * @param args Command line arguments
+     */
+    public static void main(final String[] args) {
+        int threads = 1;
+        int wordsPerLine = DEFAULT_WORDS_PER_LINE;
+        int index = 1;
+
+        try {
+            while (index < args.length && args[index].startsWith("--")) {
+                if ("--threads".equals(args[index]) && index + 1 < args.length) {
+                    threads = Integer.parseInt(args[index + 1]);
+                } else if ("--words-per-line".equals(args[index]) && index + 1 < args.length) {
+                    wordsPerLine = Integer.parseInt(args[index + 1]);
+                } else {
+                    usage();
+                }
+                index += 2;
+            }
+            if (args.length != index + 2) {
+                usage();
+            }
+
+            final PGPWordFileConverter converter = new PGPWordFileConverter(wordsPerLine, threads);
+            final Path input = Paths.get(args[index]);
+            final Path output = Paths.get(args[index + 1]);
+            if ("encode".equals(args[0])) {
+                converter.encode(input, output);
+            } else if ("decode".equals(args[0])) {
+                converter.decode(input, output);
+            } else {
+                usage();
+            }
+        } catch (final IOException | InvalidPGPWordException | IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Print usage information and exit.
+     */
+    private static void usage() {
+        System.err.println("Usage: java -jar j-pgp-wordlist.jar (encode|decode) [--threads N] [--words-per-line N] "
+                + "<input> <output>");
+        System.exit(2);
+    }
+}
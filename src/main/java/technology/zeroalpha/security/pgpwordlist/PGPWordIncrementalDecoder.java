@@ -0,0 +1,258 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.util.Arrays;
+
+/**
+ * Stateful decoder that takes a sentence of PGP Words a token at a time, e.g. from a speech recogniser or as a user
+ * types, and reports immediately whether each token is valid for its position. Errors are found as soon as they are
+ * made, rather than once the whole sentence has been assembled, so a bad session can be abandoned early.
+ * <p>
+ * Whole words can be given to {@link #acceptWord(CharSequence)}, and characters as they arrive to
+ * {@link #acceptChars(CharSequence)}, where whitespace ends a word. A partial word is checked against the words that
+ * start with it, so a typing mistake is rejected at the first wrong character. The bytes decoded so far are available
+ * at any time.
+ * <p>
+ * A rejected token is discarded without advancing the position, so the expected word can be given again. Call
+ * {@link #reset()} before decoding a new, unrelated sentence. Instances are NOT thread-safe.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordIncrementalDecoder {
+
+    /** PGP Words and their associated hexadecimal values. */
+    private final PGPWordList pgpWordList;
+
+    /** Index used to find candidates for the word being received, built when first needed. */
+    private PGPWordPrefixIndex prefixIndex;
+
+    /** Characters of the word currently being received. */
+    private final StringBuilder pending;
+
+    /** Whether the word currently being received has already been rejected. */
+    private boolean pendingRejected;
+
+    /** Bytes decoded since the last reset. */
+    private byte[] decoded = new byte[32];
+
+    /** Number of words decoded since the last reset. */
+    private int position;
+
+    /** Number of tokens rejected since the last reset. */
+    private int rejectedCount;
+
+    /**
+     * No-arg constructor.
+     */
+    public PGPWordIncrementalDecoder() {
+        this(new PGPWordList());
+    }
+
+    /**
+     * @param pgpWordList Word list to convert with
+     */
+    public PGPWordIncrementalDecoder(final PGPWordList pgpWordList) {
+        if (pgpWordList == null) {
+            throw new NullPointerException("Word list must not be null");
+        }
+
+        this.pgpWordList = pgpWordList;
+        this.pending = new StringBuilder(pgpWordList.getMaximumWordLength() + 1);
+    }
+
+    /**
+     * Decode a complete word at the current position. Any partial word received through
+     * {@link #acceptChars(CharSequence)} is discarded first.
+     *
+     * @param word Word to decode. Case and surrounding whitespace are ignored.
+     * @return {@link TokenStatus#ACCEPTED} if the word is valid for the current position and has been decoded,
+     *     otherwise {@link TokenStatus#REJECTED}
+     */
+    public TokenStatus acceptWord(final CharSequence word) {
+        clearPending();
+
+        int start = 0;
+        int end = word.length();
+        while (start < end && Character.isWhitespace(word.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(word.charAt(end - 1))) {
+            end--;
+        }
+
+        return complete(pgpWordList.lookupWord(word, start, end));
+    }
+
+    /**
+     * Add characters to the sentence as they arrive. Whitespace ends the current word, which is then decoded, and each
+     * partial word is checked as soon as its characters arrive.
+     *
+     * @param chars Characters of the sentence, which may start or end part way through a word
+     * @return {@link TokenStatus#REJECTED} if any word was first rejected by this call, or the partial word at the end
+     *     of the characters has been rejected, otherwise {@link TokenStatus#AMBIGUOUS} if a partial word is waiting for
+     *     more characters, otherwise {@link TokenStatus#ACCEPTED}. Ending a word rejected by an earlier call does not
+     *     report it again.
+     */
+    public TokenStatus acceptChars(final CharSequence chars) {
+        boolean rejected = false;
+        for (int i = 0; i < chars.length(); i++) {
+            final char c = chars.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (pendingRejected) {
+                    // Already reported when it was rejected, so only discard it
+                    clearPending();
+                } else {
+                    rejected |= endWord() == TokenStatus.REJECTED;
+                }
+            } else if (!pendingRejected) {
+                pending.append(c);
+                if (getCandidates().isEmpty()) {
+                    pendingRejected = true;
+                    rejectedCount++;
+                    rejected = true;
+                }
+            }
+        }
+
+        if (rejected || pendingRejected) {
+            return TokenStatus.REJECTED;
+        }
+
+        return pending.length() > 0 ? TokenStatus.AMBIGUOUS : TokenStatus.ACCEPTED;
+    }
+
+    /**
+     * Signal the end of input, decoding any partial word received through {@link #acceptChars(CharSequence)}.
+     *
+     * @return {@link TokenStatus#REJECTED} if the final word was rejected, otherwise {@link TokenStatus#ACCEPTED}
+     */
+    public TokenStatus finish() {
+        return pendingRejected ? clearPending() : endWord();
+    }
+
+    /**
+     * Words valid for the current position that start with the partial word received so far. Before any characters of
+     * the next word have been received, every word valid for the position is returned.
+     *
+     * @return Matching words, as a view
+     */
+    public PGPWordPrefixMatches getCandidates() {
+        if (prefixIndex == null) {
+            prefixIndex = pgpWordList.isDefault() ? PrefixIndexHolder.INSTANCE : new PGPWordPrefixIndex(pgpWordList);
+        }
+
+        return prefixIndex.match(pending, position);
+    }
+
+    /**
+     * @return Copy of the bytes decoded since the last reset
+     */
+    public byte[] getDecodedBytes() {
+        return Arrays.copyOf(decoded, position);
+    }
+
+    /**
+     * @return Number of words decoded since the last reset, which is also the position of the next word
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * @return Number of tokens rejected since the last reset
+     */
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Reset the decoder, discarding any decoded bytes and partial word, so that the next word is treated as the first
+     * word of a new sentence.
+     *
+     * @return This decoder
+     */
+    public PGPWordIncrementalDecoder reset() {
+        clearPending();
+        position = 0;
+        rejectedCount = 0;
+        return this;
+    }
+
+    /**
+     * Decode the partial word, if there is one, now that it is complete. The word must not already have been
+     * rejected.
+     *
+     * @return Status of the word, or {@link TokenStatus#ACCEPTED} if there was no word
+     */
+    private TokenStatus endWord() {
+        if (pending.length() == 0) {
+            return TokenStatus.ACCEPTED;
+        }
+
+        final int value = pgpWordList.lookupWord(pending, 0, pending.length());
+        clearPending();
+        return complete(value);
+    }
+
+    /**
+     * Record a complete word, if it is valid for the current position.
+     *
+     * @param value Value returned by {@link PGPWordList#lookupWord(CharSequence, int, int)} for the word
+     * @return Status of the word
+     */
+    private TokenStatus complete(final int value) {
+        if (!PGPWordList.isWordAt(value, position)) {
+            rejectedCount++;
+            return TokenStatus.REJECTED;
+        }
+
+        if (position == decoded.length) {
+            decoded = Arrays.copyOf(decoded, decoded.length * 2);
+        }
+        decoded[position++] = (byte) value;
+        return TokenStatus.ACCEPTED;
+    }
+
+    /**
+     * Discard the partial word.
+     *
+     * @return {@link TokenStatus#REJECTED}, for convenience when discarding a rejected word
+     */
+    private TokenStatus clearPending() {
+        pending.setLength(0);
+        pendingRejected = false;
+        return TokenStatus.REJECTED;
+    }
+
+    /**
+     * Holder for the prefix index of the standard list, which is shared by every decoder using that list and only
+     * built when first needed.
+     */
+    private static final class PrefixIndexHolder {
+
+        /** Prefix index for the standard PGP Word List. */
+        private static final PGPWordPrefixIndex INSTANCE = new PGPWordPrefixIndex();
+    }
+}
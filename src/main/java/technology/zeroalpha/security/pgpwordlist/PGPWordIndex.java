@@ -0,0 +1,364 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Minimal perfect hash over the words of a word list, used for case-insensitive reverse lookups. Words are matched
+ * directly against a slice of a {@link CharSequence} or {@code char[]}, without creating any intermediate Strings.
+ * <p>
+ * The index uses hash-and-displace: each word is first hashed into a bucket, and each bucket stores a displacement
+ * which, when mixed with the word's hash, places every word of the bucket in its own slot of the table. Input is
+ * compared against the contents of the slot it hashes to, so words that are not in the list are rejected.
+ *
+ * @author Chris Rowe
+ */
+final class PGPWordIndex {
+
+    /** Value returned when a word is not found in the index. */
+    static final int NOT_FOUND = -1;
+
+    /** Flag set in returned values when the word is an odd word. */
+    static final int ODD_WORD_FLAG = 0x100;
+
+    /** Number of buckets used while building the table. Must be a power of two. */
+    private static final int BUCKET_COUNT = 128;
+
+    /** Upper bound on the displacement tried for a single bucket before giving up. */
+    private static final int MAX_DISPLACEMENT = 1 << 20;
+
+    /** Lower-cased words, one per slot. */
+    private final char[][] words;
+
+    /** Hexadecimal value of the word in each slot, with {@link #ODD_WORD_FLAG} set for odd words. */
+    private final short[] values;
+
+    /** Displacement for each bucket. */
+    private final int[] displacements;
+
+    /** Length of the shortest word, used to reject input without hashing it. */
+    private final int minimumLength;
+
+    /** Length of the longest word, used to reject input without hashing it. */
+    private final int maximumLength;
+
+    /**
+     * Build the index from the even and odd words of a list.
+     *
+     * @param evenWords Even words, indexed by hexadecimal value
+     * @param oddWords Odd words, indexed by hexadecimal value
+     *
+     * @throws IllegalArgumentException If the words are not unique
+     * @throws IllegalStateException If no perfect hash can be found for the words
+     */
+    PGPWordIndex(final String[] evenWords, final String[] oddWords) {
+        final int size = evenWords.length + oddWords.length;
+        if (Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException(String.format("Number of words must be a power of two: %d", size));
+        }
+
+        final char[][] keys = new char[size][];
+        final short[] keyValues = new short[size];
+        final Set<String> uniqueWords = new HashSet<>();
+        int minimum = Integer.MAX_VALUE;
+        int maximum = 0;
+        for (int i = 0; i < size; i++) {
+            final int hexValue = i >> 1;
+            final boolean odd = (i & 1) != 0;
+            keys[i] = toLowerCase(odd ? oddWords[hexValue] : evenWords[hexValue]);
+            keyValues[i] = (short) (odd ? hexValue | ODD_WORD_FLAG : hexValue);
+
+            if (!uniqueWords.add(new String(keys[i]))) {
+                throw new IllegalArgumentException(String.format("Duplicate PGP Word: %s", new String(keys[i])));
+            }
+            minimum = Math.min(minimum, keys[i].length);
+            maximum = Math.max(maximum, keys[i].length);
+        }
+
+        this.words = new char[size][];
+        this.values = new short[size];
+        this.displacements = new int[BUCKET_COUNT];
+        this.minimumLength = minimum;
+        this.maximumLength = maximum;
+
+        build(keys, keyValues);
+    }
+
+    /**
+     * Place every key into its own slot, choosing a displacement for each bucket. Buckets are placed largest first,
+     * as they are the hardest to fit.
+     *
+     * @param keys Lower-cased words
+     * @param keyValues Value associated with each word
+     */
+    private void build(final char[][] keys, final short[] keyValues) {
+        final List<List<Integer>> buckets = new ArrayList<>(BUCKET_COUNT);
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.add(new ArrayList<>());
+        }
+
+        final int[] hashes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            hashes[i] = hash(keys[i], 0, keys[i].length);
+            buckets.get(bucket(hashes[i])).add(i);
+        }
+
+        final Integer[] order = new Integer[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> buckets.get(b).size() - buckets.get(a).size());
+
+        final int[] candidateSlots = new int[keys.length];
+        for (final int bucket : order) {
+            final List<Integer> members = buckets.get(bucket);
+            if (members.isEmpty()) {
+                break;
+            }
+
+            int displacement = 0;
+            while (!fits(members, hashes, displacement, candidateSlots)) {
+                if (++displacement == MAX_DISPLACEMENT) {
+                    throw new IllegalStateException("Unable to build perfect hash for word list");
+                }
+            }
+
+            displacements[bucket] = displacement;
+            for (int i = 0; i < members.size(); i++) {
+                final int key = members.get(i);
+                words[candidateSlots[i]] = keys[key];
+                values[candidateSlots[i]] = keyValues[key];
+            }
+        }
+    }
+
+    /**
+     * Check whether all members of a bucket land in distinct, empty slots for the given displacement.
+     *
+     * @param members Indexes of the keys in the bucket
+     * @param hashes Hash of every key
+     * @param displacement Displacement to try
+     * @param candidateSlots Receives the slot chosen for each member
+     * @return True if the displacement places every member
+     */
+    private boolean fits(final List<Integer> members, final int[] hashes, final int displacement,
+                         final int[] candidateSlots) {
+        for (int i = 0; i < members.size(); i++) {
+            final int slot = slot(hashes[members.get(i)], displacement);
+            if (words[slot] != null) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (candidateSlots[j] == slot) {
+                    return false;
+                }
+            }
+            candidateSlots[i] = slot;
+        }
+
+        return true;
+    }
+
+    /**
+     * Look up a word held in a slice of a {@link CharSequence}. Comparison is NOT case sensitive.
+     *
+     * @param word Sequence holding the word
+     * @param start Index of the first character of the word
+     * @param end Index after the last character of the word
+     * @return Hexadecimal value, with {@link #ODD_WORD_FLAG} set for odd words, or {@link #NOT_FOUND}
+     */
+    int lookup(final CharSequence word, final int start, final int end) {
+        final int length = end - start;
+        if (length < minimumLength || length > maximumLength) {
+            return NOT_FOUND;
+        }
+
+        int hash = 0x811C9DC5;
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ toLowerCase(word.charAt(i))) * 0x01000193;
+        }
+
+        final int slot = slot(hash, displacements[bucket(hash)]);
+        final char[] candidate = words[slot];
+        if (candidate.length != length) {
+            return NOT_FOUND;
+        }
+        for (int i = 0; i < length; i++) {
+            if (toLowerCase(word.charAt(start + i)) != candidate[i]) {
+                return NOT_FOUND;
+            }
+        }
+
+        return values[slot];
+    }
+
+    /**
+     * Look up a word held in a slice of a {@code char[]}. Comparison is NOT case sensitive.
+     *
+     * @param word Array holding the word
+     * @param start Index of the first character of the word
+     * @param end Index after the last character of the word
+     * @return Hexadecimal value, with {@link #ODD_WORD_FLAG} set for odd words, or {@link #NOT_FOUND}
+     */
+    int lookup(final char[] word, final int start, final int end) {
+        final int length = end - start;
+        if (length < minimumLength || length > maximumLength) {
+            return NOT_FOUND;
+        }
+
+        final int hash = hash(word, start, end);
+        final int slot = slot(hash, displacements[bucket(hash)]);
+        final char[] candidate = words[slot];
+        if (candidate.length != length) {
+            return NOT_FOUND;
+        }
+        for (int i = 0; i < length; i++) {
+            if (toLowerCase(word[start + i]) != candidate[i]) {
+                return NOT_FOUND;
+            }
+        }
+
+        return values[slot];
+    }
+
+    /**
+     * Look up a word held as ASCII in a slice of a {@code byte[]}. Comparison is NOT case sensitive.
+     *
+     * @param word Array holding the word
+     * @param start Index of the first byte of the word
+     * @param end Index after the last byte of the word
+     * @return Hexadecimal value, with {@link #ODD_WORD_FLAG} set for odd words, or {@link #NOT_FOUND}
+     */
+    int lookup(final byte[] word, final int start, final int end) {
+        final int length = end - start;
+        if (length < minimumLength || length > maximumLength) {
+            return NOT_FOUND;
+        }
+
+        int hash = 0x811C9DC5;
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ toLowerCase((char) (word[i] & 0xFF))) * 0x01000193;
+        }
+
+        final int slot = slot(hash, displacements[bucket(hash)]);
+        final char[] candidate = words[slot];
+        if (candidate.length != length) {
+            return NOT_FOUND;
+        }
+        for (int i = 0; i < length; i++) {
+            if (toLowerCase((char) (word[start + i] & 0xFF)) != candidate[i]) {
+                return NOT_FOUND;
+            }
+        }
+
+        return values[slot];
+    }
+
+    /**
+     * @return Length of the longest word in the index
+     */
+    int getMaximumLength() {
+        return maximumLength;
+    }
+
+    /**
+     * FNV-1a hash of the lower-cased characters in a slice of an array.
+     *
+     * @param word Array holding the word
+     * @param start Index of the first character of the word
+     * @param end Index after the last character of the word
+     * @return Hash of the word
+     */
+    private static int hash(final char[] word, final int start, final int end) {
+        int hash = 0x811C9DC5;
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ toLowerCase(word[i])) * 0x01000193;
+        }
+
+        return hash;
+    }
+
+    /**
+     * @param hash Hash of a word
+     * @return Bucket the word belongs to
+     */
+    private static int bucket(final int hash) {
+        return mix(hash) >>> (Integer.SIZE - Integer.numberOfTrailingZeros(BUCKET_COUNT));
+    }
+
+    /**
+     * @param hash Hash of a word
+     * @param displacement Displacement of the word's bucket
+     * @return Slot the word is stored in
+     */
+    private int slot(final int hash, final int displacement) {
+        return mix(hash + displacement * 0x9E3779B9) & (words.length - 1);
+    }
+
+    /**
+     * Finalisation step of MurmurHash3, spreading the bits of the hash so that the low bits can be used directly.
+     *
+     * @param hash Hash to mix
+     * @return Mixed hash
+     */
+    private static int mix(final int hash) {
+        int mixed = hash;
+        mixed ^= mixed >>> 16;
+        mixed *= 0x85EBCA6B;
+        mixed ^= mixed >>> 13;
+        mixed *= 0xC2B2AE35;
+        mixed ^= mixed >>> 16;
+
+        return mixed;
+    }
+
+    /**
+     * Lower-case an ASCII letter. Other characters are returned unchanged, so the result does not depend on the default
+     * locale.
+     *
+     * @param c Character to convert
+     * @return Lower-cased character
+     */
+    private static char toLowerCase(final char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    /**
+     * @param word Word to convert
+     * @return Lower-cased characters of the word
+     */
+    private static char[] toLowerCase(final String word) {
+        final char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = toLowerCase(chars[i]);
+        }
+
+        return chars;
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+/**
+ * Converts PGP Words to and from compact word indices, for storing sentences far more compactly than as text. A word
+ * index is the word's byte value, with {@link #ODD_COLUMN} set if the word comes from the odd column, so every index
+ * lies between 0 and {@link #INDEX_COUNT} - 1. Indices can be held one per {@code short}, or packed into 9 bits each
+ * with {@link #pack(short[])}.
+ * <p>
+ * The column is stored separately from the position, so a word spoken from the wrong column is still represented
+ * exactly, and can be found again with {@link #getFirstParityError(short[])}.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordIndexCodec {
+
+    /** Flag set in the index of a word from the odd column. */
+    public static final int ODD_COLUMN = PGPWordList.ODD_WORD_FLAG;
+
+    /** Number of distinct word indices. */
+    public static final int INDEX_COUNT = 512;
+
+    /** Number of bits each index takes once packed. */
+    public static final int BITS_PER_INDEX = 9;
+
+    /** Value returned by {@link #getFirstParityError(short[])} when every word is in the correct column. */
+    public static final int NO_POSITION = -1;
+
+    /** PGP Words and their associated hexadecimal values. */
+    private final PGPWordList pgpWordList;
+
+    /** Separator placed between consecutive words. */
+    private final String separator;
+
+    /**
+     * Create a codec that separates words with {@link PGPWordListConverter#DEFAULT_SEPARATOR}.
+     */
+    public PGPWordIndexCodec() {
+        this(new PGPWordList(), PGPWordListConverter.DEFAULT_SEPARATOR);
+    }
+
+    /**
+     * @param pgpWordList Word list to convert with
+     * @param separator Separator placed between consecutive words
+     */
+    public PGPWordIndexCodec(final PGPWordList pgpWordList, final String separator) {
+        if (pgpWordList == null) {
+            throw new NullPointerException("Word list must not be null");
+        } else if (separator == null) {
+            throw new NullPointerException("Separator must not be null");
+        }
+
+        this.pgpWordList = pgpWordList;
+        this.separator = separator;
+    }
+
+    /**
+     * Convert bytes into the indices of the words representing them, using the even column for even positions and the
+     * odd column for odd positions.
+     *
+     * @param bytes Bytes to convert
+     * @return Word index for each byte
+     */
+    public short[] bytesToIndices(final byte[] bytes) {
+        final short[] indices = new short[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            indices[i] = (short) ((bytes[i] & 0xFF) | ((i & 1) == 0 ? 0 : ODD_COLUMN));
+        }
+
+        return indices;
+    }
+
+    /**
+     * Convert word indices back into the bytes they represent. The column of each index is NOT checked against its
+     * position; use {@link #getFirstParityError(short[])} to do so.
+     *
+     * @param indices Word indices to convert
+     * @return Byte represented by each index
+     *
+     * @throws IllegalArgumentException If an index is not between 0 and {@link #INDEX_COUNT} - 1
+     */
+    public byte[] indicesToBytes(final short[] indices) {
+        final byte[] bytes = new byte[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            bytes[i] = (byte) checkIndex(indices, i);
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Convert a sentence of PGP Words into their indices. Words may be separated by any amount of whitespace and are
+     * matched case-insensitively. A word from the wrong column for its position is kept as it is, rather than rejected.
+     *
+     * @param pgpWords Sentence of PGP Words
+     * @return Index of each word
+     *
+     * @throws InvalidPGPWordException If a word is not recognised
+     */
+    public short[] wordsToIndices(final CharSequence pgpWords) throws InvalidPGPWordException {
+        final int length = pgpWords.length();
+        short[] indices = new short[length / 2 + 1];
+        int position = 0;
+        int index = 0;
+        while (true) {
+            final int start = PGPWordTokenizer.skipWhitespace(pgpWords, index, length);
+            if (start == length) {
+                break;
+            }
+
+            index = PGPWordTokenizer.skipWord(pgpWords, start, length);
+            final int value = pgpWordList.lookupWord(pgpWords, start, index);
+            if (value == PGPWordList.NOT_FOUND) {
+                throw new InvalidPGPWordException(
+                        InvalidPGPWordException.unrecognisedMessage(position, pgpWords.subSequence(start, index)));
+            }
+            indices[position++] = (short) value;
+        }
+
+        final short[] result = new short[position];
+        System.arraycopy(indices, 0, result, 0, position);
+        return result;
+    }
+
+    /**
+     * Convert word indices into a sentence of PGP Words. Each word is taken from the column held in its index, so a
+     * sentence with parity errors is reproduced exactly.
+     *
+     * @param indices Word indices to convert
+     * @return Sentence of PGP Words
+     *
+     * @throws IllegalArgumentException If an index is not between 0 and {@link #INDEX_COUNT} - 1
+     */
+    public String indicesToWords(final short[] indices) {
+        final StringBuilder pgpWords = new StringBuilder(indices.length * (pgpWordList.getMaximumWordLength() + 1));
+        for (int i = 0; i < indices.length; i++) {
+            final int index = checkIndex(indices, i);
+            if (i > 0) {
+                pgpWords.append(separator);
+            }
+            // The column flag is the bit above the value, so it doubles as the parity of a position
+            pgpWords.append(pgpWordList.getWord(index & 0xFF, index >>> 8));
+        }
+
+        return pgpWords.toString();
+    }
+
+    /**
+     * @param indices Word indices to check
+     * @return Position of the first index whose column does not match its position, or {@link #NO_POSITION} if there
+     *     is none
+     *
+     * @throws IllegalArgumentException If an index is not between 0 and {@link #INDEX_COUNT} - 1
+     */
+    public int getFirstParityError(final short[] indices) {
+        for (int i = 0; i < indices.length; i++) {
+            if (((checkIndex(indices, i) & ODD_COLUMN) == 0) != ((i & 1) == 0)) {
+                return i;
+            }
+        }
+
+        return NO_POSITION;
+    }
+
+    /**
+     * Pack word indices into {@link #BITS_PER_INDEX} bits each, most significant bit first, with the final byte padded
+     * with zero bits. The number of indices is implied by the packed length, so no count needs to be stored alongside.
+     *
+     * @param indices Word indices to pack
+     * @return Packed indices
+     *
+     * @throws IllegalArgumentException If an index is not between 0 and {@link #INDEX_COUNT} - 1
+     */
+    public static byte[] pack(final short[] indices) {
+        final byte[] packed = new byte[packedLength(indices.length)];
+        int bit = 0;
+        for (int i = 0; i < indices.length; i++) {
+            // An index starting at a bit offset of up to 7 spans at most two bytes
+            final int shifted = checkIndex(indices, i) << (7 - (bit & 7));
+            packed[bit >>> 3] |= (byte) (shifted >>> 8);
+            packed[(bit >>> 3) + 1] |= (byte) shifted;
+            bit += BITS_PER_INDEX;
+        }
+
+        return packed;
+    }
+
+    /**
+     * Unpack word indices packed by {@link #pack(short[])}.
+     *
+     * @param packed Packed indices
+     * @return Word indices
+     *
+     * @throws IllegalArgumentException If the length could not have been produced by {@link #pack(short[])}, or the
+     *     padding bits are not zero, e.g. because the record is truncated or corrupt
+     */
+    public static short[] unpack(final byte[] packed) {
+        // Padding is always less than a whole index, so only one count can fit a valid packed length
+        final int count = (int) (packed.length * 8L / BITS_PER_INDEX);
+        if (packedLength(count) != packed.length) {
+            throw new IllegalArgumentException(String.format("Packed length %d is not valid for any number of indices",
+                    packed.length));
+        }
+        final int paddingBits = (int) (packed.length * 8L - count * (long) BITS_PER_INDEX);
+        if (paddingBits > 0 && (packed[packed.length - 1] & ((1 << paddingBits) - 1)) != 0) {
+            throw new IllegalArgumentException("Padding bits of packed indices are not zero");
+        }
+
+        final short[] indices = new short[count];
+        int bit = 0;
+        for (int i = 0; i < indices.length; i++) {
+            final int pair = ((packed[bit >>> 3] & 0xFF) << 8) | (packed[(bit >>> 3) + 1] & 0xFF);
+            indices[i] = (short) ((pair >>> (7 - (bit & 7))) & (INDEX_COUNT - 1));
+            bit += BITS_PER_INDEX;
+        }
+
+        return indices;
+    }
+
+    /**
+     * @param count Number of word indices
+     * @return Number of bytes the indices take once packed
+     */
+    public static int packedLength(final int count) {
+        return (int) ((count * (long) BITS_PER_INDEX + 7) / 8);
+    }
+
+    /**
+     * @param indices Word indices
+     * @param position Position of the index to check
+     * @return The index, if it is between 0 and {@link #INDEX_COUNT} - 1
+     *
+     * @throws IllegalArgumentException If the index is out of range
+     */
+    private static int checkIndex(final short[] indices, final int position) {
+        final int index = indices[position];
+        if (index < 0 || index >= INDEX_COUNT) {
+            throw new IllegalArgumentException(String.format("Word index at position %d is out of range: %d",
+                    position, index));
+        }
+
+        return index;
+    }
+}
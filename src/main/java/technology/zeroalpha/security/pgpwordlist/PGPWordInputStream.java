@@ -0,0 +1,223 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * {@link InputStream} that reads a sentence of PGP Words from an underlying {@link Reader}, and yields the bytes that
+ * the words represent. Words may be separated by any amount of whitespace and are matched case-insensitively. The
+ * position of each word is tracked across reads, and a word that is not recognised or appears at the wrong position
+ * causes an {@link IOException} whose cause is an {@link InvalidPGPWordException}.
+ * <p>
+ * Memory use is bounded by a fixed size character buffer, regardless of the amount of input.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordInputStream extends InputStream {
+
+    /** Number of characters read from the reader at a time. */
+    private static final int BUFFER_SIZE = 4096;
+
+    /** PGP Words and their associated hexadecimal values. */
+    private final PGPWordList pgpWordList;
+
+    /** Source of the words. */
+    private final Reader reader;
+
+    /** Characters read from the reader. */
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    /** Characters of the word currently being read. One longer than the longest word, to detect longer input. */
+    private final char[] word;
+
+    /** Index of the next character to use in {@link #buffer}. */
+    private int bufferPosition;
+
+    /** Number of valid characters in {@link #buffer}. */
+    private int bufferLimit;
+
+    /** Number of bytes read from the stream so far. */
+    private long position;
+
+    /** Whether the end of the reader has been reached. */
+    private boolean endOfInput;
+
+    /** Error raised after some bytes had already been read by the same call, to be thrown by the next read. */
+    private IOException deferredError;
+
+    /**
+     * @param reader Source of the words
+     */
+    public PGPWordInputStream(final Reader reader) {
+        this(new PGPWordList(), reader);
+    }
+
+    /**
+     * @param pgpWordList Word list to convert with
+     * @param reader Source of the words
+     */
+    public PGPWordInputStream(final PGPWordList pgpWordList, final Reader reader) {
+        if (pgpWordList == null) {
+            throw new NullPointerException("Word list must not be null");
+        } else if (reader == null) {
+            throw new NullPointerException("Reader must not be null");
+        }
+
+        this.pgpWordList = pgpWordList;
+        this.reader = reader;
+        this.word = new char[pgpWordList.getMaximumWordLength() + 1];
+    }
+
+    @Override
+    public int read() throws IOException {
+        throwDeferredError();
+        return readWord();
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        Ranges.checkRange(bytes, offset, length);
+        if (length == 0) {
+            return 0;
+        }
+        throwDeferredError();
+
+        int count = 0;
+        while (count < length) {
+            final int value;
+            try {
+                value = readWord();
+            } catch (final IOException e) {
+                // Return the bytes already read, as their words have been consumed, and report the error next time
+                if (count == 0) {
+                    throw e;
+                }
+                deferredError = e;
+                return count;
+            }
+            if (value < 0) {
+                return count == 0 ? -1 : count;
+            }
+            bytes[offset + count++] = (byte) value;
+        }
+
+        return count;
+    }
+
+    /**
+     * @return Number of bytes read from the stream so far
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Throw the error deferred by an earlier read, if there is one.
+     *
+     * @throws IOException The deferred error
+     */
+    private void throwDeferredError() throws IOException {
+        if (deferredError != null) {
+            final IOException error = deferredError;
+            deferredError = null;
+            throw error;
+        }
+    }
+
+    /**
+     * Read the next word and convert it to a byte.
+     *
+     * @return Value of the byte, or -1 at the end of the input
+     *
+     * @throws IOException If the reader fails, or the word is invalid
+     */
+    private int readWord() throws IOException {
+        int c = nextChar();
+        while (c >= 0 && Character.isWhitespace(c)) {
+            c = nextChar();
+        }
+        if (c < 0) {
+            return -1;
+        }
+
+        int length = 0;
+        while (c >= 0 && !Character.isWhitespace(c)) {
+            if (length < word.length) {
+                word[length] = (char) c;
+            }
+            length++;
+            c = nextChar();
+        }
+
+        final int value = length > pgpWordList.getMaximumWordLength()
+                ? PGPWordList.NOT_FOUND
+                : pgpWordList.lookupWord(word, 0, length);
+        if (!PGPWordList.isWordAt(value, position)) {
+            throw invalidWord(InvalidPGPWordException.message(value, position,
+                    length > word.length ? new String(word) + "..." : new String(word, 0, length)));
+        }
+
+        position++;
+        return value & 0xFF;
+    }
+
+    /**
+     * @return Next character from the reader, or -1 at the end of the input
+     *
+     * @throws IOException If the reader fails
+     */
+    private int nextChar() throws IOException {
+        while (bufferPosition == bufferLimit) {
+            if (endOfInput) {
+                return -1;
+            }
+
+            final int count = reader.read(buffer, 0, buffer.length);
+            if (count < 0) {
+                endOfInput = true;
+                return -1;
+            }
+            bufferPosition = 0;
+            bufferLimit = count;
+        }
+
+        return buffer[bufferPosition++];
+    }
+
+    /**
+     * @param message Reason the word is invalid
+     * @return Exception to throw
+     */
+    private static IOException invalidWord(final String message) {
+        return new IOException(message, new InvalidPGPWordException(message));
+    }
+}
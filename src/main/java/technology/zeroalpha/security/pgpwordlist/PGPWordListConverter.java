@@ -23,14 +23,102 @@
  */
 package technology.zeroalpha.security.pgpwordlist;
 
+import java.io.IOException;
+
 /**
  * @author Chris Rowe
  */
 public class PGPWordListConverter {
 
-    /** PGP Words and their associated hexadecimal values. */
+    /** Separator placed between words when none is specified. */
+    public static final String DEFAULT_SEPARATOR = " ";
+
+    /** Standard PGP Words and their associated hexadecimal values. */
     private static final PGPWordList PGP_WORD_LIST = new PGPWordList();
 
+    /** Codec used for parallel conversions of the standard PGP Words. */
+    private static final PGPWordParallelCodec PARALLEL_CODEC = new PGPWordParallelCodec(PGP_WORD_LIST);
+
+    /** Number of bytes below which parallel encoding falls back to sequential encoding. */
+    private static final int PARALLEL_ENCODE_THRESHOLD = 1 << 16;
+
+    /** Number of characters below which parallel decoding falls back to sequential decoding. */
+    private static final int PARALLEL_DECODE_THRESHOLD = 1 << 19;
+
+    /** Value returned by {@link #parseHexValue(String)} when passed null. */
+    private static final int HEX_NULL = -1;
+
+    /** Value returned by {@link #parseHexValue(String)} when passed an empty string. */
+    private static final int HEX_EMPTY = -2;
+
+    /** Value returned by {@link #parseHexValue(String)} when the value is larger than 0xFF. */
+    private static final int HEX_TOO_LARGE = -3;
+
+    /** Value returned by {@link #parseHexValue(String)} when the string is not a hexadecimal number. */
+    private static final int HEX_INVALID = -4;
+
+    /** PGP Words and their associated hexadecimal values. */
+    private final PGPWordList pgpWordList;
+
+    /** Codec used for parallel conversions. */
+    private final PGPWordParallelCodec parallelCodec;
+
+    /** Whether exceptions thrown by this converter capture a stack trace. */
+    private final boolean captureStackTraces;
+
+    /** Listener told about every conversion. */
+    private final ConversionListener listener;
+
+    /** Whether conversions need to be timed and reported, i.e. a listener other than the no-op one was supplied. */
+    private final boolean listening;
+
+    /**
+     * No-arg constructor. Exceptions thrown for invalid input capture a full stack trace.
+     */
+    public PGPWordListConverter() {
+        this(true);
+    }
+
+    /**
+     * @param captureStackTraces Whether exceptions thrown for invalid input should capture a stack trace. Disabling
+     *     this makes rejecting invalid input much cheaper, at the cost of less detailed exceptions.
+     */
+    public PGPWordListConverter(final boolean captureStackTraces) {
+        this(captureStackTraces, ConversionListener.NONE);
+    }
+
+    /**
+     * @param captureStackTraces Whether exceptions thrown for invalid input should capture a stack trace
+     * @param listener Listener told about every conversion, e.g. {@link ConversionStatistics}. Passing
+     *     {@link ConversionListener#NONE} disables reporting, along with the cost of timing each conversion.
+     */
+    public PGPWordListConverter(final boolean captureStackTraces, final ConversionListener listener) {
+        this(PGP_WORD_LIST, captureStackTraces, listener);
+    }
+
+    /**
+     * Create a converter for a custom word list, e.g. one built from a {@link PGPWordTable} for a different
+     * vocabulary.
+     *
+     * @param pgpWordList Words and their associated hexadecimal values
+     * @param captureStackTraces Whether exceptions thrown for invalid input should capture a stack trace
+     * @param listener Listener told about every conversion, or {@link ConversionListener#NONE}
+     */
+    public PGPWordListConverter(final PGPWordList pgpWordList, final boolean captureStackTraces,
+                                final ConversionListener listener) {
+        if (pgpWordList == null) {
+            throw new NullPointerException("Word list must not be null");
+        } else if (listener == null) {
+            throw new NullPointerException("Listener must not be null");
+        }
+
+        this.pgpWordList = pgpWordList;
+        this.parallelCodec = pgpWordList == PGP_WORD_LIST ? PARALLEL_CODEC : new PGPWordParallelCodec(pgpWordList);
+        this.captureStackTraces = captureStackTraces;
+        this.listener = listener;
+        this.listening = listener != ConversionListener.NONE;
+    }
+
     /**
      * Retrieve the even PGP word for the given hexadecimal value.
      *
@@ -40,10 +128,11 @@ public class PGPWordListConverter {
      * @throws InvalidHexValueException If provided hex value is not valid
      */
     public String getEvenWordForHexValue(final String hexString) throws InvalidHexValueException {
-        final int hexValue = convertHexStringToInteger(hexString);
-        final PGPWords pgpWords = PGP_WORD_LIST.getPGPWordsForHexValue(hexValue);
+        final long start = startTime();
+        final String word = pgpWordList.getEvenWord(convertHexStringToInteger(hexString));
+        recordSuccess(ConversionOperation.HEX_TO_WORD, 1, start);
 
-        return pgpWords.getEvenWord();
+        return word;
     }
 
     /**
@@ -55,10 +144,11 @@ public class PGPWordListConverter {
      * @throws InvalidHexValueException If provided hex value is not valid
      */
     public String getOddWordForHexValue(final String hexString) throws InvalidHexValueException {
-        final int hexValue = convertHexStringToInteger(hexString);
-        final PGPWords pgpWords = PGP_WORD_LIST.getPGPWordsForHexValue(hexValue);
+        final long start = startTime();
+        final String word = pgpWordList.getOddWord(convertHexStringToInteger(hexString));
+        recordSuccess(ConversionOperation.HEX_TO_WORD, 1, start);
 
-        return pgpWords.getOddWord();
+        return word;
     }
 
     /**
@@ -71,18 +161,648 @@ public class PGPWordListConverter {
      * @throws InvalidPGPWordException If word is not valid/recognised
      */
     public String getHexValueForPGPWord(final String pgpWord) throws InvalidPGPWordException {
+        return getHexValueForPGPWord(pgpWord, HexStyle.UPPER_CASE);
+    }
+
+    /**
+     * Retrieve the hexadecimal value associated with the provided PGP Word, written in the given style. Method returns
+     * a String representation of the hex number, without a leading 0x, taken from a precomputed table.
+     *
+     * @param pgpWord PGP Word to get hex value for
+     * @param style Case and width of the hex value, e.g. {@link HexStyle#UPPER_CASE_FIXED_WIDTH} for {@code "0A"}
+     * @return Hexadecimal value associated with word, represented as a String
+     *
+     * @throws InvalidPGPWordException If word is not valid/recognised
+     */
+    public String getHexValueForPGPWord(final String pgpWord, final HexStyle style) throws InvalidPGPWordException {
+        final long start = startTime();
         if (pgpWord == null) {
-            throw new InvalidPGPWordException("Cannot convert null to hexadecimal value");
+            recordFailure(ConversionOperation.WORD_TO_HEX, ConversionError.NULL_INPUT);
+            throw new InvalidPGPWordException("Cannot convert null to hexadecimal value", captureStackTraces);
+        }
+
+        final int hexValue = pgpWordList.lookupHexValue(pgpWord);
+        if (hexValue == PGPWordList.NOT_FOUND) {
+            recordFailure(ConversionOperation.WORD_TO_HEX, ConversionError.UNRECOGNISED_WORD);
+            throw new InvalidPGPWordException(String.format("PGP Word not recognised: %s", pgpWord),
+                    captureStackTraces);
+        } else {
+            recordSuccess(ConversionOperation.WORD_TO_HEX, 1, start);
+            return style.format(hexValue);
+        }
+    }
+
+    /**
+     * Convert the provided bytes into a sentence of PGP Words, separated by {@link #DEFAULT_SEPARATOR}. Bytes at an even
+     * position use the even word and bytes at an odd position use the odd word, as defined by the PGP Word List.
+     *
+     * @param bytes Bytes to convert
+     * @return PGP Words representing the bytes
+     */
+    public String encode(final byte[] bytes) {
+        return encode(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Convert a range of the provided bytes into a sentence of PGP Words, separated by {@link #DEFAULT_SEPARATOR}. The
+     * first byte of the range is treated as being at an even position.
+     *
+     * @param bytes Bytes to convert
+     * @param offset Index of first byte to convert
+     * @param length Number of bytes to convert
+     * @return PGP Words representing the bytes
+     */
+    public String encode(final byte[] bytes, final int offset, final int length) {
+        final long start = startTime();
+        Ranges.checkRange(bytes, offset, length);
+        final String words = encodeWords(bytes, offset, length);
+        recordSuccess(ConversionOperation.ENCODE, length, start);
+
+        return words;
+    }
+
+    /**
+     * Convert a range of the provided bytes into PGP Words, appending them to the supplied {@link StringBuilder}. The
+     * first byte of the range is treated as being at an even position.
+     *
+     * @param bytes Bytes to convert
+     * @param offset Index of first byte to convert
+     * @param length Number of bytes to convert
+     * @param output Builder to append words to
+     * @param separator Separator placed between consecutive words
+     */
+    public void encode(final byte[] bytes, final int offset, final int length, final StringBuilder output,
+                       final CharSequence separator) {
+        final long start = startTime();
+        Ranges.checkRange(bytes, offset, length);
+        appendWords(bytes, offset, length, output, separator);
+        recordSuccess(ConversionOperation.ENCODE, length, start);
+    }
+
+    /**
+     * Convert a range of the provided bytes into PGP Words, writing them to the supplied {@link Appendable}. The first
+     * byte of the range is treated as being at an even position.
+     *
+     * @param bytes Bytes to convert
+     * @param offset Index of first byte to convert
+     * @param length Number of bytes to convert
+     * @param output Destination to write words to
+     * @param separator Separator placed between consecutive words
+     *
+     * @throws IOException If the words cannot be written to the output
+     */
+    public void encode(final byte[] bytes, final int offset, final int length, final Appendable output,
+                       final CharSequence separator) throws IOException {
+        final long start = startTime();
+        Ranges.checkRange(bytes, offset, length);
+        appendWords(bytes, offset, length, output, separator);
+        recordSuccess(ConversionOperation.ENCODE, length, start);
+    }
+
+    /**
+     * Convert a string of hexadecimal digits into a sentence of PGP Words, separated by {@link #DEFAULT_SEPARATOR}.
+     * Each pair of digits represents one byte, and the string must not include a leading '0x'. Whitespace and colons
+     * between bytes are ignored, as in {@link #hexToWords(CharSequence)}. Rather than throwing an exception, invalid
+     * input is reported through the returned result, with the error position being the index of the offending
+     * character, or the length of the string if a digit is missing.
+     *
+     * @param hexString Hexadecimal digits to convert
+     * @return Result holding the PGP Words, or the reason the input could not be converted
+     */
+    public ConversionResult<String> tryEncode(final CharSequence hexString) {
+        final long start = startTime();
+        if (hexString == null) {
+            recordFailure(ConversionOperation.ENCODE, ConversionError.NULL_INPUT);
+            return ConversionResult.failure(ConversionError.NULL_INPUT, 0);
+        }
+
+        final StringBuilder builder = new StringBuilder(hexString.length() * 4);
+        final int result = appendHexWords(hexString, builder);
+        if (result < 0) {
+            recordFailure(ConversionOperation.ENCODE, ConversionError.INVALID_HEX_VALUE);
+            return ConversionResult.failure(ConversionError.INVALID_HEX_VALUE, ~result);
+        }
+        recordSuccess(ConversionOperation.ENCODE, result, start);
+
+        return ConversionResult.success(builder.toString());
+    }
+
+    /**
+     * Convert a hexadecimal string of any length, such as a key fingerprint, into a sentence of PGP Words separated by
+     * {@link #DEFAULT_SEPARATOR}. Whitespace and colons between bytes are ignored, so fingerprints can be passed as
+     * displayed by GPG, e.g. {@code "E582 94F2 ..."} or {@code "E5:82:94:F2:..."}.
+     *
+     * @param hexString Hexadecimal string, with an even number of digits
+     * @return PGP Words representing the bytes of the hexadecimal string
+     *
+     * @throws InvalidHexValueException If the string is null, contains a character that is not a hexadecimal digit or
+     *     separator, or splits a byte with a separator or the end of the string
+     */
+    public String hexToWords(final CharSequence hexString) throws InvalidHexValueException {
+        final long start = startTime();
+        if (hexString == null) {
+            recordFailure(ConversionOperation.ENCODE, ConversionError.NULL_INPUT);
+            throw new InvalidHexValueException(
+                    "Cannot convert to PGP Words - null passed in rather than hexadecimal value.", captureStackTraces);
+        }
+
+        final StringBuilder builder = new StringBuilder(hexString.length() * 4);
+        final int result = appendHexWords(hexString, builder);
+        if (result < 0) {
+            recordFailure(ConversionOperation.ENCODE, ConversionError.INVALID_HEX_VALUE);
+            throw new InvalidHexValueException(~result == hexString.length()
+                    ? "Cannot convert to PGP Words - final byte is missing its second hexadecimal digit."
+                    : String.format("Cannot convert to PGP Words - invalid hexadecimal digit at index %d.", ~result),
+                    captureStackTraces);
+        }
+        recordSuccess(ConversionOperation.ENCODE, result, start);
+
+        return builder.toString();
+    }
+
+    /**
+     * Convert a hexadecimal string into PGP Words separated by {@link #DEFAULT_SEPARATOR}, appending them to the
+     * builder, without reporting the conversion. Whitespace and colons between bytes are ignored. Shared by
+     * {@link #tryEncode(CharSequence)} and {@link #hexToWords(CharSequence)} so that both accept the same input.
+     *
+     * @param hexString Hexadecimal string
+     * @param builder Builder to append the words to
+     * @return Number of bytes converted, or if the string is invalid, the bitwise complement of the index of the
+     *     offending character (the length of the string if a digit is missing)
+     */
+    private int appendHexWords(final CharSequence hexString, final StringBuilder builder) {
+        final int length = hexString.length();
+        int position = 0;
+        int i = 0;
+        while (i < length) {
+            final char c = hexString.charAt(i);
+            if (isHexSeparator(c)) {
+                i++;
+                continue;
+            }
+
+            final int high = HexTables.nibbleValue(c);
+            if (high < 0) {
+                return ~i;
+            } else if (i + 1 == length) {
+                return ~length;
+            }
+            final int low = HexTables.nibbleValue(hexString.charAt(i + 1));
+            if (low < 0) {
+                return ~(i + 1);
+            }
+
+            if (position > 0) {
+                builder.append(DEFAULT_SEPARATOR);
+            }
+            builder.append(wordForByte((byte) (high << 4 | low), position));
+            position++;
+            i += 2;
+        }
+
+        return position;
+    }
+
+    /**
+     * Convert a sentence of PGP Words back into an upper case hexadecimal string, with two digits per word and no
+     * separators. Words are tokenised and validated in the same way as {@link #decode(CharSequence)}.
+     *
+     * @param words Sentence of PGP Words
+     * @return Hexadecimal string represented by the words
+     *
+     * @throws InvalidPGPWordException If a word is not recognised, or appears at the wrong position
+     */
+    public String wordsToHex(final CharSequence words) throws InvalidPGPWordException {
+        return wordsToHex(words, HexStyle.UPPER_CASE_FIXED_WIDTH);
+    }
+
+    /**
+     * Convert a sentence of PGP Words back into a hexadecimal string in the given case, with no separators. Every byte
+     * is written as two digits, whatever the style's width, so that the string can be parsed back unambiguously.
+     *
+     * @param words Sentence of PGP Words
+     * @param style Style selecting the case of the hexadecimal digits
+     * @return Hexadecimal string represented by the words
+     *
+     * @throws InvalidPGPWordException If a word is not recognised, or appears at the wrong position
+     */
+    public String wordsToHex(final CharSequence words, final HexStyle style) throws InvalidPGPWordException {
+        final byte[] bytes = decode(words);
+        final char[] digits = style.digits();
+        final char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[2 * i] = digits[(bytes[i] >> 4) & 0x0F];
+            hex[2 * i + 1] = digits[bytes[i] & 0x0F];
+        }
+
+        return new String(hex);
+    }
+
+    /**
+     * Convert a sentence of PGP Words back into the bytes it represents. Words may be separated by any amount of
+     * whitespace and are matched case-insensitively. Each word must come from the column matching its position, i.e.
+     * words at even positions must be even words and words at odd positions must be odd words.
+     *
+     * @param words Sentence of PGP Words
+     * @return Bytes represented by the words
+     *
+     * @throws InvalidPGPWordException If a word is not recognised, or appears at the wrong position
+     */
+    public byte[] decode(final CharSequence words) throws InvalidPGPWordException {
+        final long start = startTime();
+        if (words == null) {
+            throw nullWords();
+        }
+
+        final byte[] bytes = new byte[PGPWordTokenizer.countWords(words)];
+        decodeChecked(words, bytes, 0, start);
+
+        return bytes;
+    }
+
+    /**
+     * Convert a sentence of PGP Words back into the bytes it represents, writing them into the supplied array. Words
+     * are tokenised and validated in the same way as {@link #decode(CharSequence)}.
+     *
+     * @param words Sentence of PGP Words
+     * @param output Array to write bytes to
+     * @param offset Index in the array to write the first byte to
+     * @return Number of bytes written
+     *
+     * @throws InvalidPGPWordException If a word is not recognised, or appears at the wrong position
+     * @throws IndexOutOfBoundsException If the array does not have room for a byte per word from the offset, in which
+     *     case nothing is written to it
+     */
+    public int decode(final CharSequence words, final byte[] output, final int offset) throws InvalidPGPWordException {
+        final long start = startTime();
+        if (words == null) {
+            throw nullWords();
+        } else if (output == null) {
+            throw new NullPointerException("Output array must not be null");
+        }
+        Ranges.checkRange(output, offset, PGPWordTokenizer.countWords(words));
+
+        return decodeChecked(words, output, offset, start);
+    }
+
+    /**
+     * Convert a sentence of PGP Words back into the bytes it represents, tokenising and validating words in the same
+     * way as {@link #decode(CharSequence)}. Rather than throwing an exception, invalid input is reported through the
+     * returned result, with the error position being the index of the offending word.
+     *
+     * @param words Sentence of PGP Words
+     * @return Result holding the decoded bytes, or the reason the input could not be converted
+     */
+    public ConversionResult<byte[]> tryDecode(final CharSequence words) {
+        final long start = startTime();
+        if (words == null) {
+            recordFailure(ConversionOperation.DECODE, ConversionError.NULL_INPUT);
+            return ConversionResult.failure(ConversionError.NULL_INPUT, 0);
         }
 
-        final Integer hexValue = PGP_WORD_LIST.getHexValueByPGPWord(pgpWord);
-        if (hexValue == null) {
-            throw new InvalidPGPWordException(String.format("PGP Word not recognised: %s", pgpWord));
+        final byte[] bytes = new byte[PGPWordTokenizer.countWords(words)];
+        final int result = decodeWords(words, bytes, 0);
+        if (result < 0) {
+            recordFailure(ConversionOperation.DECODE, failedError(result));
+            return ConversionResult.failure(failedError(result), failedPosition(result));
+        }
+        recordSuccess(ConversionOperation.DECODE, result, start);
+
+        return ConversionResult.success(bytes);
+    }
+
+    /**
+     * Compare a sentence of PGP Words, e.g. a fingerprint read back by a user, against the bytes it is expected to
+     * represent. Words are tokenised and matched in the same way as {@link #decode(CharSequence)}, but rather than
+     * stopping at the first invalid word, every word is decoded and compared in a single pass without creating any
+     * Strings.
+     * <p>
+     * The comparison is constant-time with respect to the expected bytes: the work done for each word, and the way the
+     * result is accumulated, never branches on their values, so timing reveals nothing about them beyond their length.
+     * Timing does depend on the spoken sentence, which the caller already holds.
+     * <p>
+     * A sentence that does not match is reported to the listener as a failure, with
+     * {@link ConversionError#UNRECOGNISED_WORD} or {@link ConversionError#WRONG_PARITY} if the first mismatch is an
+     * invalid word, otherwise {@link ConversionError#MISMATCH}.
+     *
+     * @param expected Bytes the sentence should represent
+     * @param spokenWords Sentence of PGP Words to verify
+     * @return Result of the comparison
+     */
+    public VerificationResult verify(final byte[] expected, final CharSequence spokenWords) {
+        if (expected == null) {
+            throw new NullPointerException("Expected bytes must not be null");
+        } else if (spokenWords == null) {
+            throw new NullPointerException("Spoken words must not be null");
+        }
+
+        final long start = startTime();
+        final int length = spokenWords.length();
+        int firstMismatch = VerificationResult.NO_POSITION;
+        int firstInvalid = VerificationResult.NO_POSITION;
+        int firstUnrecognised = VerificationResult.NO_POSITION;
+        int unrecognised = 0;
+        int wrongParity = 0;
+        int position = 0;
+        int index = 0;
+        while (true) {
+            final int wordStart = PGPWordTokenizer.skipWhitespace(spokenWords, index, length);
+            if (wordStart == length) {
+                break;
+            }
+
+            index = PGPWordTokenizer.skipWord(spokenWords, wordStart, length);
+            // Each flag is 1 or 0, derived arithmetically so that nothing below branches on the expected byte
+            final int value = pgpWordList.lookupWord(spokenWords, wordStart, index);
+            final int notFound = value >>> 31;
+            final int oddWord = (value >> 8) & 1 & (notFound ^ 1);
+            final int parity = (oddWord ^ (position & 1)) & (notFound ^ 1);
+            final int extra = (expected.length - 1 - position) >>> 31;
+            final int expectedByte = expected.length == 0 ? 0 : expected[Math.min(position, expected.length - 1)] & 0xFF;
+            final int difference = ((value ^ expectedByte) & 0xFF) | notFound | parity | extra;
+            final int mismatch = (difference | -difference) >>> 31;
+
+            firstMismatch = firstMismatchOf(firstMismatch, position, mismatch);
+            firstInvalid = firstMismatchOf(firstInvalid, position, notFound | parity);
+            firstUnrecognised = firstMismatchOf(firstUnrecognised, position, notFound);
+            unrecognised += notFound;
+            wrongParity += parity;
+            position++;
+        }
+
+        // A sentence that is too short mismatches at its first missing word
+        final int missing = (position - expected.length) >>> 31;
+        firstMismatch = firstMismatchOf(firstMismatch, position, missing);
+
+        final VerificationResult result = new VerificationResult(firstMismatch, position, unrecognised, wrongParity);
+        if (result.isMatch()) {
+            recordSuccess(ConversionOperation.VERIFY, position, start);
+        } else if (firstMismatch != firstInvalid) {
+            recordFailure(ConversionOperation.VERIFY, ConversionError.MISMATCH);
         } else {
-            return Integer.toHexString(hexValue).toUpperCase();
+            recordFailure(ConversionOperation.VERIFY, firstInvalid == firstUnrecognised
+                    ? ConversionError.UNRECOGNISED_WORD
+                    : ConversionError.WRONG_PARITY);
+        }
+
+        return result;
+    }
+
+    /**
+     * Update the first mismatch position without branching.
+     *
+     * @param firstMismatch Current first mismatch position, or {@link VerificationResult#NO_POSITION}
+     * @param position Position being checked
+     * @param mismatch 1 if the position mismatched, otherwise 0
+     * @return The position if it is the first mismatch, otherwise the current first mismatch position
+     */
+    private static int firstMismatchOf(final int firstMismatch, final int position, final int mismatch) {
+        final int take = -((firstMismatch >>> 31) & mismatch);
+        return (firstMismatch & ~take) | (position & take);
+    }
+
+    /**
+     * Convert the provided bytes into a sentence of PGP Words, separated by {@link #DEFAULT_SEPARATOR}, using all
+     * available cores. The result is identical to {@link #encode(byte[])}. Small inputs are encoded sequentially, as
+     * splitting them would cost more than it saves.
+     *
+     * @param bytes Bytes to convert
+     * @return PGP Words representing the bytes
+     */
+    public String encodeParallel(final byte[] bytes) {
+        final long start = startTime();
+        final String words = bytes.length < PARALLEL_ENCODE_THRESHOLD
+                ? encodeWords(bytes, 0, bytes.length)
+                : parallelCodec.encode(bytes, 0, bytes.length, DEFAULT_SEPARATOR);
+        recordSuccess(ConversionOperation.ENCODE, bytes.length, start);
+
+        return words;
+    }
+
+    /**
+     * Convert a sentence of PGP Words back into the bytes it represents, using all available cores. Words are
+     * tokenised and validated in the same way as {@link #decode(CharSequence)}, and the result is identical. Small
+     * inputs are decoded sequentially, as splitting them would cost more than it saves.
+     *
+     * @param words Sentence of PGP Words
+     * @return Bytes represented by the words
+     *
+     * @throws InvalidPGPWordException If a word is not recognised, or appears at the wrong position
+     */
+    public byte[] decodeParallel(final CharSequence words) throws InvalidPGPWordException {
+        if (words == null || words.length() < PARALLEL_DECODE_THRESHOLD) {
+            return decode(words);
+        }
+
+        final long start = startTime();
+        final ConversionResult<byte[]> result = parallelCodec.decode(words);
+        if (!result.isSuccess()) {
+            recordFailure(ConversionOperation.DECODE, result.getError());
+            throw invalidWord(words, result.getErrorPosition(), result.getError());
+        }
+        recordSuccess(ConversionOperation.DECODE, result.getValue().length, start);
+
+        return result.getValue();
+    }
+
+    /**
+     * Convert a range of bytes into a sentence of PGP Words, separated by {@link #DEFAULT_SEPARATOR}, without checking
+     * the range or reporting the conversion.
+     *
+     * @param bytes Bytes to convert
+     * @param offset Index of first byte to convert
+     * @param length Number of bytes to convert
+     * @return PGP Words representing the bytes
+     */
+    private String encodeWords(final byte[] bytes, final int offset, final int length) {
+        final StringBuilder builder = new StringBuilder(length * 10);
+        appendWords(bytes, offset, length, builder, DEFAULT_SEPARATOR);
+
+        return builder.toString();
+    }
+
+    /**
+     * Append the PGP Words for a range of bytes to a builder, without checking the range or reporting the conversion.
+     *
+     * @param bytes Bytes to convert
+     * @param offset Index of first byte to convert
+     * @param length Number of bytes to convert
+     * @param output Builder to append words to
+     * @param separator Separator placed between consecutive words
+     */
+    private void appendWords(final byte[] bytes, final int offset, final int length, final StringBuilder output,
+                             final CharSequence separator) {
+        try {
+            appendWords(bytes, offset, length, (Appendable) output, separator);
+        } catch (final IOException e) {
+            throw new IllegalStateException("StringBuilder threw IOException", e);
         }
     }
 
+    /**
+     * Append the PGP Words for a range of bytes to an {@link Appendable}, without checking the range or reporting the
+     * conversion.
+     *
+     * @param bytes Bytes to convert
+     * @param offset Index of first byte to convert
+     * @param length Number of bytes to convert
+     * @param output Destination to write words to
+     * @param separator Separator placed between consecutive words
+     *
+     * @throws IOException If the words cannot be written to the output
+     */
+    private void appendWords(final byte[] bytes, final int offset, final int length, final Appendable output,
+                             final CharSequence separator) throws IOException {
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                output.append(separator);
+            }
+            output.append(wordForByte(bytes[offset + i], i));
+        }
+    }
+
+    /**
+     * Decode a sentence of PGP Words into the supplied array, reporting the outcome and throwing for invalid words.
+     *
+     * @param words Sentence of PGP Words
+     * @param output Array to write bytes to
+     * @param offset Index in the array to write the first byte to
+     * @param start Time the conversion started, from {@link #startTime()}
+     * @return Number of bytes written
+     *
+     * @throws InvalidPGPWordException If a word is not recognised, or appears at the wrong position
+     */
+    private int decodeChecked(final CharSequence words, final byte[] output, final int offset, final long start)
+            throws InvalidPGPWordException {
+        final int result = decodeWords(words, output, offset);
+        if (result < 0) {
+            recordFailure(ConversionOperation.DECODE, failedError(result));
+            throw invalidWord(words, failedPosition(result), failedError(result));
+        }
+        recordSuccess(ConversionOperation.DECODE, result, start);
+
+        return result;
+    }
+
+    /**
+     * Report a null sentence, and create the exception thrown for it.
+     *
+     * @return Exception to throw
+     */
+    private InvalidPGPWordException nullWords() {
+        recordFailure(ConversionOperation.DECODE, ConversionError.NULL_INPUT);
+        return new InvalidPGPWordException("Cannot convert null to bytes", captureStackTraces);
+    }
+
+    /**
+     * @return Current time in nanoseconds, or 0 if conversions are not being reported
+     */
+    private long startTime() {
+        return listening ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Report a successful conversion to the listener, if there is one.
+     *
+     * @param operation Operation performed
+     * @param bytes Number of bytes encoded or decoded
+     * @param start Time the conversion started, from {@link #startTime()}
+     */
+    private void recordSuccess(final ConversionOperation operation, final int bytes, final long start) {
+        if (listening) {
+            listener.onSuccess(operation, bytes, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Report a failed conversion to the listener, if there is one.
+     *
+     * @param operation Operation attempted
+     * @param error Reason the conversion failed
+     */
+    private void recordFailure(final ConversionOperation operation, final ConversionError error) {
+        if (listening) {
+            listener.onFailure(operation, error);
+        }
+    }
+
+    /**
+     * Decode a sentence of PGP Words into the supplied array without throwing for invalid words. Failures are returned
+     * as a negative value that encodes the position of the invalid word and the reason, which can be extracted using
+     * {@link #failedPosition(int)} and {@link #failedError(int)}.
+     *
+     * @param words Sentence of PGP Words
+     * @param output Array to write bytes to, which must have room for a byte per word from the offset
+     * @param offset Index in the array to write the first byte to
+     * @return Number of bytes written, or a negative value if a word is invalid
+     */
+    private int decodeWords(final CharSequence words, final byte[] output, final int offset) {
+        final int length = words.length();
+        int position = 0;
+        int index = 0;
+        while (true) {
+            final int start = PGPWordTokenizer.skipWhitespace(words, index, length);
+            if (start == length) {
+                return position;
+            }
+
+            index = PGPWordTokenizer.skipWord(words, start, length);
+            final int value = pgpWordList.lookupWord(words, start, index);
+            if (value == PGPWordList.NOT_FOUND) {
+                return ~(position << 1);
+            } else if (!PGPWordList.isWordAt(value, position)) {
+                return ~(position << 1 | 1);
+            }
+
+            output[offset + position] = (byte) value;
+            position++;
+        }
+    }
+
+    /**
+     * @param result Negative value returned by {@link #decodeWords(CharSequence, byte[], int)}
+     * @return Position of the invalid word
+     */
+    private static int failedPosition(final int result) {
+        return ~result >>> 1;
+    }
+
+    /**
+     * @param result Negative value returned by {@link #decodeWords(CharSequence, byte[], int)}
+     * @return Reason the word was invalid
+     */
+    private static ConversionError failedError(final int result) {
+        return (~result & 1) == 0 ? ConversionError.UNRECOGNISED_WORD : ConversionError.WRONG_PARITY;
+    }
+
+    /**
+     * Create the exception thrown for an invalid word in a sentence.
+     *
+     * @param words Sentence of words
+     * @param position Index of the invalid word in the sentence
+     * @param error Reason the word is invalid
+     * @return Exception to throw
+     */
+    private InvalidPGPWordException invalidWord(final CharSequence words, final int position,
+                                                final ConversionError error) {
+        final CharSequence word = PGPWordTokenizer.findWord(words, position);
+
+        return new InvalidPGPWordException(error == ConversionError.WRONG_PARITY
+                ? InvalidPGPWordException.wrongParityMessage(position, word)
+                : InvalidPGPWordException.unrecognisedMessage(position, word), captureStackTraces);
+    }
+
+    /**
+     * Retrieve the word for a byte, based on its position within the sentence being built.
+     *
+     * @param value Byte to convert
+     * @param position Position of the byte within the sentence
+     * @return Even word if position is even, otherwise odd word
+     */
+    private String wordForByte(final byte value, final int position) {
+        return pgpWordList.getWord(value & 0xFF, position);
+    }
+
     /**
      * Convert a provided String representation of a hexadecimal value into an integer. If the String cannot be
      * converted, or the value is too large (i.e. > 0xFF), an {@link InvalidHexValueException} is thrown.
@@ -93,25 +813,77 @@ public class PGPWordListConverter {
      * @throws InvalidHexValueException If provided hex value is not valid
      */
     private int convertHexStringToInteger(final String hexString) throws InvalidHexValueException {
+        final int hexValue = parseHexValue(hexString);
+        if (hexValue < 0) {
+            recordFailure(ConversionOperation.HEX_TO_WORD,
+                    hexValue == HEX_NULL ? ConversionError.NULL_INPUT : ConversionError.INVALID_HEX_VALUE);
+        }
+        switch (hexValue) {
+            case HEX_NULL:
+                throw new InvalidHexValueException(
+                        "Cannot convert to PGP Word - null passed in rather than hexadecimal value.",
+                        captureStackTraces);
+            case HEX_EMPTY:
+                throw new InvalidHexValueException(
+                        "Cannot convert to PGP Word - empty string passed in rather than hexadecimal value.",
+                        captureStackTraces);
+            case HEX_TOO_LARGE:
+                throw new InvalidHexValueException(
+                        "Cannot convert to PGP Word - provided hexadecimal value is too large.", captureStackTraces);
+            case HEX_INVALID:
+                throw new InvalidHexValueException(
+                        "Cannot convert to PGP Word - provided string was not a valid hexadecimal value.",
+                        captureStackTraces);
+            default:
+                return hexValue;
+        }
+    }
+
+    /**
+     * Parse a String representation of a hexadecimal value of at most two digits, ignoring leading and trailing
+     * whitespace, without throwing for invalid input.
+     *
+     * @param hexString String representation of hex value
+     * @return Value between 0x00 and 0xFF, or one of the negative HEX_ constants if the string is not valid
+     */
+    private static int parseHexValue(final String hexString) {
         if (hexString == null) {
-            throw new InvalidHexValueException(
-                    "Cannot convert to PGP Word - null passed in rather than hexadecimal value.");
+            return HEX_NULL;
         }
 
-        final String trimmedHexValue = hexString.trim();
-        if (trimmedHexValue.isEmpty()) {
-            throw new InvalidHexValueException(
-                    "Cannot convert to PGP Word - empty string passed in rather than hexadecimal value.");
-        } else if (trimmedHexValue.length() > 2) {
-            throw new InvalidHexValueException(
-                    "Cannot convert to PGP Word - provided hexadecimal value is too large.");
+        // Equivalent to String.trim(), without creating a new String
+        int start = 0;
+        int end = hexString.length();
+        while (start < end && hexString.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && hexString.charAt(end - 1) <= ' ') {
+            end--;
         }
 
-        try {
-            return Integer.decode(String.format("0x%s", trimmedHexValue));
-        } catch (final NumberFormatException nfe) {
-            throw new InvalidHexValueException(
-                    "Cannot convert to PGP Word - provided string was not a valid hexadecimal value.", nfe);
+        if (start == end) {
+            return HEX_EMPTY;
+        } else if (end - start > 2) {
+            return HEX_TOO_LARGE;
+        }
+
+        int hexValue = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = HexTables.nibbleValue(hexString.charAt(i));
+            if (digit < 0) {
+                return HEX_INVALID;
+            }
+            hexValue = hexValue << 4 | digit;
         }
+
+        return hexValue;
+    }
+
+    /**
+     * @param c Character to check
+     * @return True if the character may separate bytes in a hexadecimal string, i.e. whitespace or a colon
+     */
+    private static boolean isHexSeparator(final char c) {
+        return c == ':' || Character.isWhitespace(c);
     }
 }
@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * {@link OutputStream} that converts the bytes written to it into PGP Words, writing them to an underlying
+ * {@link Writer}. The position of each byte is tracked across calls, so the output is identical to encoding all of the
+ * bytes in one go, regardless of how they are split between writes. No data is buffered by this class.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordOutputStream extends OutputStream {
+
+    /** PGP Words and their associated hexadecimal values. */
+    private final PGPWordList pgpWordList;
+
+    /** Destination for the words. */
+    private final Writer writer;
+
+    /** Separator placed between consecutive words. */
+    private final String separator;
+
+    /** Number of bytes written so far. */
+    private long position;
+
+    /**
+     * Create a stream that separates words with {@link PGPWordListConverter#DEFAULT_SEPARATOR}.
+     *
+     * @param writer Destination for the words
+     */
+    public PGPWordOutputStream(final Writer writer) {
+        this(writer, PGPWordListConverter.DEFAULT_SEPARATOR);
+    }
+
+    /**
+     * @param writer Destination for the words
+     * @param separator Separator placed between consecutive words
+     */
+    public PGPWordOutputStream(final Writer writer, final String separator) {
+        this(new PGPWordList(), writer, separator);
+    }
+
+    /**
+     * @param pgpWordList Word list to convert with
+     * @param writer Destination for the words
+     * @param separator Separator placed between consecutive words
+     */
+    public PGPWordOutputStream(final PGPWordList pgpWordList, final Writer writer, final String separator) {
+        if (pgpWordList == null) {
+            throw new NullPointerException("Word list must not be null");
+        } else if (writer == null || separator == null) {
+            throw new NullPointerException("Writer and separator must not be null");
+        }
+
+        this.pgpWordList = pgpWordList;
+        this.writer = writer;
+        this.separator = separator;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        if (position > 0) {
+            writer.write(separator);
+        }
+
+        final int hexValue = b & 0xFF;
+        writer.write(pgpWordList.getWord(hexValue, position));
+        position++;
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        Ranges.checkRange(bytes, offset, length);
+
+        for (int i = offset; i < offset + length; i++) {
+            write(bytes[i]);
+        }
+    }
+
+    /**
+     * @return Number of bytes written to the stream so far
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+/**
+ * Encoder that converts bytes to PGP Words two at a time. Since words alternate between the even and odd columns, every
+ * pair of bytes starting at an even position maps to a fixed "even-word separator odd-word" chunk. All 65,536 chunks
+ * are precomputed into one contiguous character array, so each pair of bytes costs a single lookup and a single bulk
+ * copy.
+ * <p>
+ * With the default separator the table takes about 2.4 MB, as reported by {@link #getFootprintBytes()}, so it is only
+ * built on first use. Tables for the default separator are shared by all instances; tables for other separators belong
+ * to the encoder that uses them, so such encoders should be reused. Instances are thread-safe.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordPairEncoder {
+
+    /** Number of possible pairs of bytes. */
+    private static final int PAIR_COUNT = 1 << 16;
+
+    /** PGP Words and their associated hexadecimal values. */
+    private final PGPWordList pgpWordList;
+
+    /** Separator placed between consecutive words. */
+    private final String separator;
+
+    /** Precomputed chunks, built on first use. */
+    private volatile PairTable pairTable;
+
+    /**
+     * Create an encoder that separates words with {@link PGPWordListConverter#DEFAULT_SEPARATOR}.
+     */
+    public PGPWordPairEncoder() {
+        this(PGPWordListConverter.DEFAULT_SEPARATOR);
+    }
+
+    /**
+     * @param separator Separator placed between consecutive words
+     */
+    public PGPWordPairEncoder(final String separator) {
+        this(new PGPWordList(), separator);
+    }
+
+    /**
+     * @param pgpWordList Word list to convert with
+     * @param separator Separator placed between consecutive words
+     */
+    public PGPWordPairEncoder(final PGPWordList pgpWordList, final String separator) {
+        if (pgpWordList == null) {
+            throw new NullPointerException("Word list must not be null");
+        } else if (separator == null) {
+            throw new NullPointerException("Separator must not be null");
+        }
+
+        this.pgpWordList = pgpWordList;
+        this.separator = separator;
+    }
+
+    /**
+     * Convert the provided bytes into a sentence of PGP Words.
+     *
+     * @param bytes Bytes to convert
+     * @return PGP Words representing the bytes
+     */
+    public String encode(final byte[] bytes) {
+        final StringBuilder builder = new StringBuilder(bytes.length * 10);
+        encode(bytes, 0, bytes.length, builder);
+
+        return builder.toString();
+    }
+
+    /**
+     * Convert a range of the provided bytes into PGP Words, appending them to the supplied {@link StringBuilder}. The
+     * first byte of the range is treated as being at an even position.
+     *
+     * @param bytes Bytes to convert
+     * @param offset Index of first byte to convert
+     * @param length Number of bytes to convert
+     * @param output Builder to append words to
+     */
+    public void encode(final byte[] bytes, final int offset, final int length, final StringBuilder output) {
+        Ranges.checkRange(bytes, offset, length);
+        final PairTable table = table();
+
+        final int pairsEnd = offset + (length & ~1);
+        for (int i = offset; i < pairsEnd; i += 2) {
+            if (i > offset) {
+                output.append(separator);
+            }
+            final int pair = (bytes[i] & 0xFF) << 8 | bytes[i + 1] & 0xFF;
+            output.append(table.chars, table.offsets[pair], table.offsets[pair + 1] - table.offsets[pair]);
+        }
+
+        if ((length & 1) != 0) {
+            if (length > 1) {
+                output.append(separator);
+            }
+            output.append(pgpWordList.getEvenWord(bytes[pairsEnd] & 0xFF));
+        }
+    }
+
+    /**
+     * Convert a range of the provided bytes into PGP Words, writing them into the supplied array. The first byte of the
+     * range is treated as being at an even position. The array must have room for the words, which never need more
+     * than {@code length * (}{@link PGPWordList#getMaximumWordLength()}{@code  + separator length)} characters.
+     *
+     * @param bytes Bytes to convert
+     * @param offset Index of first byte to convert
+     * @param length Number of bytes to convert
+     * @param output Array to write words to
+     * @param outputOffset Index in the array to write the first character to
+     * @return Number of characters written
+     *
+     * @throws IndexOutOfBoundsException If the array does not have room for the words
+     */
+    public int encode(final byte[] bytes, final int offset, final int length, final char[] output,
+                      final int outputOffset) {
+        Ranges.checkRange(bytes, offset, length);
+        final PairTable table = table();
+
+        int outputIndex = outputOffset;
+        final int pairsEnd = offset + (length & ~1);
+        for (int i = offset; i < pairsEnd; i += 2) {
+            if (i > offset) {
+                separator.getChars(0, separator.length(), output, outputIndex);
+                outputIndex += separator.length();
+            }
+            final int pair = (bytes[i] & 0xFF) << 8 | bytes[i + 1] & 0xFF;
+            final int chunkLength = table.offsets[pair + 1] - table.offsets[pair];
+            System.arraycopy(table.chars, table.offsets[pair], output, outputIndex, chunkLength);
+            outputIndex += chunkLength;
+        }
+
+        if ((length & 1) != 0) {
+            if (length > 1) {
+                separator.getChars(0, separator.length(), output, outputIndex);
+                outputIndex += separator.length();
+            }
+            final String word = pgpWordList.getEvenWord(bytes[pairsEnd] & 0xFF);
+            word.getChars(0, word.length(), output, outputIndex);
+            outputIndex += word.length();
+        }
+
+        return outputIndex - outputOffset;
+    }
+
+    /**
+     * Approximate memory used by the precomputed table, building it if it has not been built yet.
+     *
+     * @return Size of the table in bytes
+     */
+    public long getFootprintBytes() {
+        final PairTable table = table();
+
+        // Array headers are assumed to be 16 bytes, as on a typical 64-bit JVM
+        return 16 + (long) table.chars.length * Character.BYTES + 16 + (long) table.offsets.length * Integer.BYTES;
+    }
+
+    /**
+     * @return Precomputed table, building it if necessary
+     */
+    private PairTable table() {
+        PairTable table = pairTable;
+        if (table == null) {
+            synchronized (this) {
+                table = pairTable;
+                if (table == null) {
+                    table = pgpWordList.isDefault() && PGPWordListConverter.DEFAULT_SEPARATOR.equals(separator)
+                            ? DefaultTableHolder.TABLE
+                            : new PairTable(pgpWordList, separator);
+                    pairTable = table;
+                }
+            }
+        }
+
+        return table;
+    }
+
+    /**
+     * Immutable table holding the chunk for every pair of bytes in one contiguous array.
+     */
+    private static final class PairTable {
+
+        /** Chunks for every pair, one after the other. */
+        private final char[] chars;
+
+        /** Index in {@link #chars} of the start of each pair's chunk, plus a final entry marking the end. */
+        private final int[] offsets;
+
+        /**
+         * @param pgpWordList Word list to build chunks from
+         * @param separator Separator placed between the two words of each chunk
+         */
+        private PairTable(final PGPWordList pgpWordList, final String separator) {
+            int evenLength = 0;
+            int oddLength = 0;
+            for (int hexValue = 0; hexValue < 256; hexValue++) {
+                evenLength += pgpWordList.getEvenWord(hexValue).length();
+                oddLength += pgpWordList.getOddWord(hexValue).length();
+            }
+
+            // Each even word starts 256 chunks, each odd word ends 256 chunks, and every chunk has one separator
+            this.chars = new char[256 * (evenLength + oddLength) + PAIR_COUNT * separator.length()];
+            this.offsets = new int[PAIR_COUNT + 1];
+
+            int index = 0;
+            for (int pair = 0; pair < PAIR_COUNT; pair++) {
+                offsets[pair] = index;
+                final String evenWord = pgpWordList.getEvenWord(pair >>> 8);
+                final String oddWord = pgpWordList.getOddWord(pair & 0xFF);
+                evenWord.getChars(0, evenWord.length(), chars, index);
+                index += evenWord.length();
+                separator.getChars(0, separator.length(), chars, index);
+                index += separator.length();
+                oddWord.getChars(0, oddWord.length(), chars, index);
+                index += oddWord.length();
+            }
+            offsets[PAIR_COUNT] = index;
+        }
+    }
+
+    /**
+     * Holder for the table using the standard list and the default separator, built once and only when first used.
+     */
+    private static final class DefaultTableHolder {
+
+        /** Table using {@link PGPWordListConverter#DEFAULT_SEPARATOR}. */
+        private static final PairTable TABLE =
+                new PairTable(new PGPWordList(), PGPWordListConverter.DEFAULT_SEPARATOR);
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.util.stream.IntStream;
+
+/**
+ * Encodes and decodes large inputs across all available cores, using parallel streams backed by the common fork-join
+ * pool. The parity of a word depends only on its position, so the input is split into segments that are converted
+ * independently, and the results are stitched together in order. The output is identical to sequential conversion.
+ *
+ * @author Chris Rowe
+ */
+final class PGPWordParallelCodec {
+
+    /** Number of bytes encoded by each parallel task. */
+    static final int ENCODE_SEGMENT_SIZE = 1 << 15;
+
+    /** Approximate number of characters decoded by each parallel task. */
+    static final int DECODE_SEGMENT_SIZE = 1 << 18;
+
+    /** PGP Words and their associated hexadecimal values. */
+    private final PGPWordList pgpWordList;
+
+    /**
+     * @param pgpWordList Word list used for the conversions
+     */
+    PGPWordParallelCodec(final PGPWordList pgpWordList) {
+        this.pgpWordList = pgpWordList;
+    }
+
+    /**
+     * Convert a range of bytes into a sentence of PGP Words. Each segment's output length is measured in parallel, so
+     * that every segment can then write its words straight into its own part of a single shared array.
+     *
+     * @param bytes Bytes to convert
+     * @param offset Index of first byte to convert
+     * @param length Number of bytes to convert
+     * @param separator Separator placed between consecutive words
+     * @return PGP Words representing the bytes
+     */
+    String encode(final byte[] bytes, final int offset, final int length, final String separator) {
+        final int segments = (length + ENCODE_SEGMENT_SIZE - 1) / ENCODE_SEGMENT_SIZE;
+
+        final long[] segmentLengths = new long[segments];
+        IntStream.range(0, segments).parallel().forEach(segment -> {
+            long segmentLength = 0;
+            for (int i = segmentStart(segment); i < segmentEnd(segment, length); i++) {
+                segmentLength += word(bytes[offset + i], i).length() + (i > 0 ? separator.length() : 0);
+            }
+            segmentLengths[segment] = segmentLength;
+        });
+
+        final int[] outputStarts = new int[segments];
+        long total = 0;
+        for (int segment = 0; segment < segments; segment++) {
+            outputStarts[segment] = (int) total;
+            total += segmentLengths[segment];
+            if (total > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Too many bytes to encode into a single String");
+            }
+        }
+
+        final char[] output = new char[(int) total];
+        IntStream.range(0, segments).parallel().forEach(segment -> {
+            int outputIndex = outputStarts[segment];
+            for (int i = segmentStart(segment); i < segmentEnd(segment, length); i++) {
+                if (i > 0) {
+                    separator.getChars(0, separator.length(), output, outputIndex);
+                    outputIndex += separator.length();
+                }
+                final String word = word(bytes[offset + i], i);
+                word.getChars(0, word.length(), output, outputIndex);
+                outputIndex += word.length();
+            }
+        });
+
+        return new String(output);
+    }
+
+    /**
+     * Convert a whitespace separated sentence of PGP Words back into bytes. The sentence is split into segments at
+     * whitespace, and each segment is decoded without knowing whether its first word is at an even or odd position:
+     * each word records its own column, so a segment tracks where the column sequence would first go wrong for both
+     * possible starting parities. Once the number of words in each earlier segment is known, the correct one is chosen.
+     *
+     * @param words Sentence of PGP Words
+     * @return Result holding the decoded bytes, or the position and reason for the first invalid word
+     */
+    ConversionResult<byte[]> decode(final CharSequence words) {
+        final int length = words.length();
+        final int segments = Math.max(1, (length + DECODE_SEGMENT_SIZE - 1) / DECODE_SEGMENT_SIZE);
+
+        final int[] boundaries = new int[segments + 1];
+        for (int segment = 1; segment < segments; segment++) {
+            final int boundary = Math.max(boundaries[segment - 1], segment * DECODE_SEGMENT_SIZE);
+            boundaries[segment] = PGPWordTokenizer.skipWord(words, boundary, length);
+        }
+        boundaries[segments] = length;
+
+        final DecodedSegment[] decoded = new DecodedSegment[segments];
+        IntStream.range(0, segments).parallel().forEach(segment ->
+                decoded[segment] = decodeSegment(words, boundaries[segment], boundaries[segment + 1]));
+
+        int position = 0;
+        for (final DecodedSegment segment : decoded) {
+            final int parityError = segment.firstParityError[position & 1];
+            if (parityError >= 0) {
+                return ConversionResult.failure(ConversionError.WRONG_PARITY, position + parityError);
+            } else if (segment.unrecognisedWord >= 0) {
+                return ConversionResult.failure(ConversionError.UNRECOGNISED_WORD, position + segment.unrecognisedWord);
+            }
+            position += segment.count;
+        }
+
+        final byte[] bytes = new byte[position];
+        int bytesIndex = 0;
+        for (final DecodedSegment segment : decoded) {
+            System.arraycopy(segment.bytes, 0, bytes, bytesIndex, segment.count);
+            bytesIndex += segment.count;
+        }
+
+        return ConversionResult.success(bytes);
+    }
+
+    /**
+     * Decode the words in one segment of a sentence, stopping at the first unrecognised word.
+     *
+     * @param words Sentence of PGP Words
+     * @param start Index of the first character of the segment
+     * @param end Index after the last character of the segment
+     * @return Decoded segment
+     */
+    private DecodedSegment decodeSegment(final CharSequence words, final int start, final int end) {
+        // Every word is followed by at least one whitespace character, except possibly the last
+        final DecodedSegment segment = new DecodedSegment((end - start) / 2 + 1);
+
+        int index = start;
+        while (true) {
+            final int wordStart = PGPWordTokenizer.skipWhitespace(words, index, end);
+            if (wordStart == end) {
+                return segment;
+            }
+
+            index = PGPWordTokenizer.skipWord(words, wordStart, end);
+            final int value = pgpWordList.lookupWord(words, wordStart, index);
+            if (value == PGPWordList.NOT_FOUND) {
+                segment.unrecognisedWord = segment.count;
+                return segment;
+            }
+
+            final int column = (value & PGPWordList.ODD_WORD_FLAG) == 0 ? 0 : 1;
+            for (int startParity = 0; startParity < 2; startParity++) {
+                if (segment.firstParityError[startParity] < 0 && column != ((startParity + segment.count) & 1)) {
+                    segment.firstParityError[startParity] = segment.count;
+                }
+            }
+            segment.bytes[segment.count++] = (byte) value;
+        }
+    }
+
+    /**
+     * @param segment Index of the segment
+     * @return Index of the first byte in the segment, relative to the start of the range being encoded
+     */
+    private static int segmentStart(final int segment) {
+        return segment * ENCODE_SEGMENT_SIZE;
+    }
+
+    /**
+     * @param segment Index of the segment
+     * @param length Number of bytes being encoded
+     * @return Index after the last byte in the segment, relative to the start of the range being encoded
+     */
+    private static int segmentEnd(final int segment, final int length) {
+        return (int) Math.min(length, (long) (segment + 1) * ENCODE_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param value Byte to convert
+     * @param position Position of the byte within the sentence
+     * @return Even word if position is even, otherwise odd word
+     */
+    private String word(final byte value, final int position) {
+        return pgpWordList.getWord(value & 0xFF, position);
+    }
+
+    /**
+     * Bytes decoded from one segment of a sentence, along with the position of any invalid words relative to the start
+     * of the segment.
+     */
+    private static final class DecodedSegment {
+
+        /** Decoded bytes. */
+        private final byte[] bytes;
+
+        /** Number of words decoded. */
+        private int count;
+
+        /** Index of the first unrecognised word, or -1 if every word was recognised. */
+        private int unrecognisedWord = -1;
+
+        /**
+         * Index of the first word in the wrong column, or -1 if none, assuming the segment starts at an even position
+         * (element 0) or an odd position (element 1).
+         */
+        private final int[] firstParityError = {-1, -1};
+
+        /**
+         * @param capacity Maximum number of words in the segment
+         */
+        private DecodedSegment(final int capacity) {
+            this.bytes = new byte[capacity];
+        }
+    }
+}
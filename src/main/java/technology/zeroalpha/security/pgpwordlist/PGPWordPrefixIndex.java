@@ -0,0 +1,194 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Finds the PGP Words that start with a prefix, e.g. to autocomplete words as they are typed. Each column of the list
+ * is held as a sorted array, so the words starting with any prefix form a contiguous range that is found with two
+ * binary searches. Matching ignores case, and the only allocation is the returned {@link PGPWordPrefixMatches} view.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordPrefixIndex {
+
+    /** Even words, in alphabetical order. */
+    private final String[] evenWords;
+
+    /** Hexadecimal values of {@link #evenWords}. */
+    private final int[] evenHexValues;
+
+    /** Odd words, in alphabetical order. */
+    private final String[] oddWords;
+
+    /** Hexadecimal values of {@link #oddWords}. */
+    private final int[] oddHexValues;
+
+    /**
+     * No-arg constructor.
+     */
+    public PGPWordPrefixIndex() {
+        this(new PGPWordList());
+    }
+
+    /**
+     * @param pgpWordList Word list to index
+     */
+    public PGPWordPrefixIndex(final PGPWordList pgpWordList) {
+        if (pgpWordList == null) {
+            throw new NullPointerException("Word list must not be null");
+        }
+
+        final Integer[] evenOrder = sortedHexValues(pgpWordList, true);
+        final Integer[] oddOrder = sortedHexValues(pgpWordList, false);
+
+        this.evenWords = new String[256];
+        this.evenHexValues = new int[256];
+        this.oddWords = new String[256];
+        this.oddHexValues = new int[256];
+        for (int i = 0; i < 256; i++) {
+            evenHexValues[i] = evenOrder[i];
+            evenWords[i] = pgpWordList.getEvenWord(evenHexValues[i]);
+            oddHexValues[i] = oddOrder[i];
+            oddWords[i] = pgpWordList.getOddWord(oddHexValues[i]);
+        }
+    }
+
+    /**
+     * Find the words for the given position in a sentence that start with a prefix, i.e. even words for even positions
+     * and odd words for odd positions.
+     *
+     * @param prefix Start of the word, in any case
+     * @param position Position of the word within the sentence
+     * @return Words starting with the prefix
+     */
+    public PGPWordPrefixMatches match(final CharSequence prefix, final int position) {
+        return (position & 1) == 0 ? matchEven(prefix) : matchOdd(prefix);
+    }
+
+    /**
+     * @param prefix Start of the word, in any case
+     * @return Even words starting with the prefix
+     */
+    public PGPWordPrefixMatches matchEven(final CharSequence prefix) {
+        return match(evenWords, evenHexValues, prefix);
+    }
+
+    /**
+     * @param prefix Start of the word, in any case
+     * @return Odd words starting with the prefix
+     */
+    public PGPWordPrefixMatches matchOdd(final CharSequence prefix) {
+        return match(oddWords, oddHexValues, prefix);
+    }
+
+    /**
+     * @param words Words in the column, in alphabetical order
+     * @param hexValues Hexadecimal values of the words
+     * @param prefix Start of the word
+     * @return Words in the column starting with the prefix
+     */
+    private static PGPWordPrefixMatches match(final String[] words, final int[] hexValues,
+                                              final CharSequence prefix) {
+        // Words starting with the prefix compare as equal to it, and sit between every word below and above it
+        final int from = search(words, prefix, false);
+        final int to = search(words, prefix, true);
+
+        return new PGPWordPrefixMatches(words, hexValues, from, to);
+    }
+
+    /**
+     * Binary search for a boundary of the range of words starting with a prefix.
+     *
+     * @param words Words in alphabetical order
+     * @param prefix Start of the word
+     * @param upper Whether to find the upper boundary rather than the lower
+     * @return Index of the first word that starts with, or follows, the prefix if finding the lower boundary, otherwise
+     *     the index of the first word that follows the prefix
+     */
+    private static int search(final String[] words, final CharSequence prefix, final boolean upper) {
+        int low = 0;
+        int high = words.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = comparePrefix(words[middle], prefix);
+            if (comparison < 0 || (upper && comparison == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Compare the start of a word with a prefix, ignoring case.
+     *
+     * @param word Word from the list
+     * @param prefix Start of the word
+     * @return Negative if the word comes before every word starting with the prefix, zero if the word starts with the
+     *     prefix, or positive if it comes after them
+     */
+    private static int comparePrefix(final String word, final CharSequence prefix) {
+        final int length = Math.min(word.length(), prefix.length());
+        for (int i = 0; i < length; i++) {
+            final int difference = toLowerCase(word.charAt(i)) - toLowerCase(prefix.charAt(i));
+            if (difference != 0) {
+                return difference;
+            }
+        }
+
+        return word.length() < prefix.length() ? -1 : 0;
+    }
+
+    /**
+     * @param pgpWordList Word list
+     * @param even Whether to sort the even or the odd words
+     * @return Hexadecimal values, ordered alphabetically by their words, ignoring case
+     */
+    private static Integer[] sortedHexValues(final PGPWordList pgpWordList, final boolean even) {
+        final Integer[] hexValues = new Integer[256];
+        for (int hexValue = 0; hexValue < 256; hexValue++) {
+            hexValues[hexValue] = hexValue;
+        }
+        Arrays.sort(hexValues, Comparator.comparing(hexValue ->
+                pgpWordList.getWord(hexValue, even ? 0 : 1).toLowerCase(Locale.ROOT)));
+
+        return hexValues;
+    }
+
+    /**
+     * @param c Character to convert
+     * @return Lower case version of an ASCII upper case letter, otherwise the character unchanged
+     */
+    private static char toLowerCase(final char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+}
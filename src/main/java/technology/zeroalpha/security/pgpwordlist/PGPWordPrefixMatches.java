@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Read-only view of the PGP Words in one column that start with a given prefix, as found by
+ * {@link PGPWordPrefixIndex}. Words are listed in alphabetical order, ignoring case, and are backed directly by the
+ * index, so creating the view copies nothing.
+ *
+ * @author Chris Rowe
+ */
+public final class PGPWordPrefixMatches extends AbstractList<String> implements RandomAccess {
+
+    /** Words in the column, in alphabetical order. */
+    private final String[] words;
+
+    /** Hexadecimal values of the words in the column, in the same order. */
+    private final int[] hexValues;
+
+    /** Index of the first matching word. */
+    private final int from;
+
+    /** Index after the last matching word. */
+    private final int to;
+
+    /**
+     * @param words Words in the column, in alphabetical order
+     * @param hexValues Hexadecimal values of the words in the column, in the same order
+     * @param from Index of the first matching word
+     * @param to Index after the last matching word
+     */
+    PGPWordPrefixMatches(final String[] words, final int[] hexValues, final int from, final int to) {
+        this.words = words;
+        this.hexValues = hexValues;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * @param index Index of the match
+     * @return Matching word, as it appears in the list
+     */
+    @Override
+    public String get(final int index) {
+        return words[from + checkIndex(index)];
+    }
+
+    /**
+     * @param index Index of the match
+     * @return Hexadecimal value represented by the matching word
+     */
+    public int getHexValue(final int index) {
+        return hexValues[from + checkIndex(index)];
+    }
+
+    @Override
+    public int size() {
+        return to - from;
+    }
+
+    /**
+     * @return True if exactly one word starts with the prefix, so the prefix is enough to identify it
+     */
+    public boolean isUnique() {
+        return to - from == 1;
+    }
+
+    /**
+     * @param index Index of the match
+     * @return The index, if it is within the view
+     */
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= to - from) {
+            throw new IndexOutOfBoundsException(String.format("Index %d is out of bounds for %d matches",
+                    index, to - from));
+        }
+
+        return index;
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Suggests corrections for mistyped or misheard PGP Words, e.g. "aardvak" or "Yukatan", by finding the words within
+ * {@link #MAX_DISTANCE} edits of the given word. Each column of the list has a precomputed deletion index (as used by
+ * SymSpell), mapping every string that can be made by deleting up to {@link #MAX_DISTANCE} letters from a word back to
+ * that word. A lookup only needs the deletions of the given word, rather than a scan of the whole list, and only the
+ * column matching the word's position is searched.
+ * <p>
+ * Instances are immutable and thread-safe. The index is built on construction, so an instance should be created once
+ * and shared.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordSuggester {
+
+    /** Maximum edit distance between a given word and a suggestion. */
+    public static final int MAX_DISTANCE = 2;
+
+    /** Orders suggestions by edit distance, then alphabetically. */
+    private static final Comparator<PGPWordSuggestion> BY_DISTANCE = Comparator
+            .comparingInt(PGPWordSuggestion::getDistance)
+            .thenComparing(PGPWordSuggestion::getWord, String.CASE_INSENSITIVE_ORDER);
+
+    /** PGP Words and their associated hexadecimal values. */
+    private final PGPWordList pgpWordList;
+
+    /** Even words in lower case, indexed by hexadecimal value. */
+    private final String[] evenWords = new String[256];
+
+    /** Odd words in lower case, indexed by hexadecimal value. */
+    private final String[] oddWords = new String[256];
+
+    /** Hexadecimal values of the even words reachable from each deletion. */
+    private final Map<String, int[]> evenDeletions;
+
+    /** Hexadecimal values of the odd words reachable from each deletion. */
+    private final Map<String, int[]> oddDeletions;
+
+    /** Listener told about every lookup. */
+    private final ConversionListener listener;
+
+    /** Whether lookups are reported, i.e. the listener is not {@link ConversionListener#NONE}. */
+    private final boolean listening;
+
+    /**
+     * No-arg constructor.
+     */
+    public PGPWordSuggester() {
+        this(ConversionListener.NONE);
+    }
+
+    /**
+     * @param listener Listener told about every lookup, as {@link ConversionOperation#SUGGEST}, or
+     *     {@link ConversionListener#NONE}
+     */
+    public PGPWordSuggester(final ConversionListener listener) {
+        this(new PGPWordList(), listener);
+    }
+
+    /**
+     * @param pgpWordList Word list to suggest words from
+     * @param listener Listener told about every lookup, as {@link ConversionOperation#SUGGEST}, or
+     *     {@link ConversionListener#NONE}
+     */
+    public PGPWordSuggester(final PGPWordList pgpWordList, final ConversionListener listener) {
+        if (pgpWordList == null) {
+            throw new NullPointerException("Word list must not be null");
+        } else if (listener == null) {
+            throw new NullPointerException("Listener must not be null");
+        }
+
+        this.listener = listener;
+        this.listening = listener != ConversionListener.NONE;
+        this.pgpWordList = pgpWordList;
+        for (int hexValue = 0; hexValue < 256; hexValue++) {
+            evenWords[hexValue] = pgpWordList.getEvenWord(hexValue).toLowerCase(Locale.ROOT);
+            oddWords[hexValue] = pgpWordList.getOddWord(hexValue).toLowerCase(Locale.ROOT);
+        }
+        this.evenDeletions = buildDeletionIndex(evenWords);
+        this.oddDeletions = buildDeletionIndex(oddWords);
+    }
+
+    /**
+     * Suggest corrections for a word at the given position in a sentence. Only words from the column matching the
+     * position are suggested, i.e. even words for even positions and odd words for odd positions. A recognised word is
+     * returned as the only suggestion with a distance of 0. A lookup that finds no suggestions is reported to the
+     * listener as a failure with {@link ConversionError#UNRECOGNISED_WORD}.
+     *
+     * @param word Word to correct. Case and surrounding whitespace are ignored.
+     * @param position Position of the word within the sentence
+     * @return Suggestions within {@link #MAX_DISTANCE} edits, closest first, or an empty list if there are none
+     */
+    public List<PGPWordSuggestion> suggest(final CharSequence word, final int position) {
+        final long start = listening ? System.nanoTime() : 0L;
+        final List<PGPWordSuggestion> suggestions = findSuggestions(word, position);
+        if (listening) {
+            if (suggestions.isEmpty()) {
+                listener.onFailure(ConversionOperation.SUGGEST, ConversionError.UNRECOGNISED_WORD);
+            } else {
+                listener.onSuccess(ConversionOperation.SUGGEST, 1, System.nanoTime() - start);
+            }
+        }
+
+        return suggestions;
+    }
+
+    /**
+     * @param word Word to correct. Case and surrounding whitespace are ignored.
+     * @param position Position of the word within the sentence
+     * @return Suggestions within {@link #MAX_DISTANCE} edits, closest first, or an empty list if there are none
+     */
+    private List<PGPWordSuggestion> findSuggestions(final CharSequence word, final int position) {
+        final boolean even = (position & 1) == 0;
+        final String input = word.toString().trim().toLowerCase(Locale.ROOT);
+        if (input.isEmpty() || input.length() > pgpWordList.getMaximumWordLength() + MAX_DISTANCE) {
+            return Collections.emptyList();
+        }
+
+        final int exact = pgpWordList.lookupWord(input, 0, input.length());
+        if (PGPWordList.isWordAt(exact, position)) {
+            final int hexValue = exact & 0xFF;
+            return Collections.singletonList(
+                    new PGPWordSuggestion(pgpWordList.getWord(hexValue, position), hexValue, 0));
+        }
+
+        final String[] words = even ? evenWords : oddWords;
+        final Map<String, int[]> deletions = even ? evenDeletions : oddDeletions;
+        final Set<String> inputDeletions = new HashSet<>();
+        addDeletions(input, MAX_DISTANCE, inputDeletions);
+
+        final boolean[] checked = new boolean[256];
+        final List<PGPWordSuggestion> suggestions = new ArrayList<>();
+        for (final String deletion : inputDeletions) {
+            final int[] candidates = deletions.get(deletion);
+            if (candidates == null) {
+                continue;
+            }
+            for (final int hexValue : candidates) {
+                if (checked[hexValue]) {
+                    continue;
+                }
+                checked[hexValue] = true;
+
+                final int distance = distance(input, words[hexValue]);
+                if (distance <= MAX_DISTANCE) {
+                    suggestions.add(
+                            new PGPWordSuggestion(pgpWordList.getWord(hexValue, position), hexValue, distance));
+                }
+            }
+        }
+
+        suggestions.sort(BY_DISTANCE);
+        return suggestions;
+    }
+
+    /**
+     * @param words Lower case words, indexed by hexadecimal value
+     * @return Hexadecimal values of the words reachable from every deletion of up to {@link #MAX_DISTANCE} letters
+     */
+    private static Map<String, int[]> buildDeletionIndex(final String[] words) {
+        final Map<String, List<Integer>> index = new HashMap<>();
+        for (int hexValue = 0; hexValue < words.length; hexValue++) {
+            final Set<String> wordDeletions = new HashSet<>();
+            addDeletions(words[hexValue], MAX_DISTANCE, wordDeletions);
+            for (final String deletion : wordDeletions) {
+                index.computeIfAbsent(deletion, key -> new ArrayList<>()).add(hexValue);
+            }
+        }
+
+        final Map<String, int[]> deletions = new HashMap<>(index.size() * 2);
+        for (final Map.Entry<String, List<Integer>> entry : index.entrySet()) {
+            deletions.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        return deletions;
+    }
+
+    /**
+     * Add the word, and every string made by deleting up to the given number of letters from it, to the set.
+     *
+     * @param word Word to delete letters from
+     * @param remaining Number of letters that may still be deleted
+     * @param deletions Set to add the strings to
+     */
+    private static void addDeletions(final String word, final int remaining, final Set<String> deletions) {
+        if (!deletions.add(word) || remaining == 0) {
+            return;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            addDeletions(word.substring(0, i) + word.substring(i + 1), remaining - 1, deletions);
+        }
+    }
+
+    /**
+     * Edit distance between two words, counting insertions, deletions, substitutions and transpositions of adjacent
+     * letters (the optimal string alignment distance).
+     *
+     * @param a First word
+     * @param b Second word
+     * @return Edit distance, or {@link #MAX_DISTANCE} + 1 if it is known to be greater than {@link #MAX_DISTANCE}
+     */
+    private static int distance(final String a, final String b) {
+        if (Math.abs(a.length() - b.length()) > MAX_DISTANCE) {
+            return MAX_DISTANCE + 1;
+        }
+
+        int[] previousPrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                final int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], previousPrevious[j - 2] + 1);
+                }
+            }
+
+            final int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+
+        return previous[b.length()];
+    }
+}
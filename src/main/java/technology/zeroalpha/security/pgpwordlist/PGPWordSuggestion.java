@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+/**
+ * A PGP Word suggested by {@link PGPWordSuggester} as a correction for a word that was not recognised, along with the
+ * byte it represents and how far it is from the word that was given.
+ *
+ * @author Chris Rowe
+ */
+public final class PGPWordSuggestion {
+
+    /** Suggested word, as it appears in the list. */
+    private final String word;
+
+    /** Hexadecimal value represented by the word. */
+    private final int hexValue;
+
+    /** Edit distance between the given word and the suggested word. */
+    private final int distance;
+
+    /**
+     * @param word Suggested word, as it appears in the list
+     * @param hexValue Hexadecimal value represented by the word
+     * @param distance Edit distance between the given word and the suggested word
+     */
+    PGPWordSuggestion(final String word, final int hexValue, final int distance) {
+        this.word = word;
+        this.hexValue = hexValue;
+        this.distance = distance;
+    }
+
+    /**
+     * @return the suggested word, as it appears in the list
+     */
+    public String getWord() {
+        return word;
+    }
+
+    /**
+     * @return the hexadecimal value represented by the suggested word
+     */
+    public int getHexValue() {
+        return hexValue;
+    }
+
+    /**
+     * Number of insertions, deletions, substitutions and transpositions of adjacent letters needed to turn the given
+     * word into the suggested word, ignoring case.
+     *
+     * @return the edit distance, between 0 and {@link PGPWordSuggester#MAX_DISTANCE}
+     */
+    public int getDistance() {
+        return distance;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PGPWordSuggestion[%s=%02X, distance %d]", word, hexValue, distance);
+    }
+}
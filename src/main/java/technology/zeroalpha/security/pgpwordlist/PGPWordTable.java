@@ -0,0 +1,305 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Immutable lookup tables for a complete word list: the words for each hexadecimal value, and a perfect hash index for
+ * reverse lookups. Tables are fully built before they are published, and never modified afterwards, so a single
+ * instance can be shared freely between threads.
+ * <p>
+ * The standard PGP Word List is read from a compact binary resource, lazily and exactly once, the first time it is
+ * requested. Other vocabularies can be built with {@link #of(String[], String[])} or read with
+ * {@link #load(InputStream)}, and used through {@link PGPWordList#PGPWordList(PGPWordTable)}. Words must be printable
+ * ASCII: lookups fold case and read byte input as ASCII, so words outside that range (e.g. "&Uuml;ber") are rejected
+ * rather than matched incorrectly.
+ * <p>
+ * The binary format is the ASCII magic number {@code PGPW}, a format version byte of {@value #FORMAT_VERSION}, then
+ * the even and odd word for each hexadecimal value from 00 to FF in turn, each as a length byte followed by that many
+ * bytes of UTF-8.
+ *
+ * @author Chris Rowe
+ */
+public final class PGPWordTable {
+
+    /** Number of hexadecimal values (and therefore word pairs) in a table. */
+    public static final int SIZE = 256;
+
+    /** Version of the binary format written by {@link #write(OutputStream)}. */
+    public static final int FORMAT_VERSION = 1;
+
+    /** Magic number at the start of the binary format. */
+    private static final byte[] MAGIC = {'P', 'G', 'P', 'W'};
+
+    /** Name of the resource holding the standard PGP Word List, relative to this class. */
+    private static final String DEFAULT_RESOURCE = "pgp-word-list.bin";
+
+    /** Words associated with each hexadecimal value, indexed by the value. */
+    private final PGPWords[] pgpWords;
+
+    /** Even word associated with each hexadecimal value, indexed by the value. */
+    private final String[] evenWords;
+
+    /** Odd word associated with each hexadecimal value, indexed by the value. */
+    private final String[] oddWords;
+
+    /** ASCII bytes of the even word associated with each hexadecimal value, indexed by the value. */
+    private final byte[][] evenAsciiWords;
+
+    /** ASCII bytes of the odd word associated with each hexadecimal value, indexed by the value. */
+    private final byte[][] oddAsciiWords;
+
+    /** Perfect hash index used for reverse lookups. */
+    private final PGPWordIndex index;
+
+    /**
+     * @param evenWords Even word for each hexadecimal value, indexed by the value
+     * @param oddWords Odd word for each hexadecimal value, indexed by the value
+     *
+     * @throws IllegalArgumentException If the table is incomplete, or the words are empty, contain whitespace or
+     *     characters other than printable ASCII, or are not unique
+     */
+    private PGPWordTable(final String[] evenWords, final String[] oddWords) {
+        if (evenWords.length != SIZE || oddWords.length != SIZE) {
+            throw new IllegalArgumentException(String.format("Word list must contain %d entries: %d even, %d odd",
+                    SIZE, evenWords.length, oddWords.length));
+        }
+
+        this.pgpWords = new PGPWords[SIZE];
+        this.evenWords = evenWords.clone();
+        this.oddWords = oddWords.clone();
+        this.evenAsciiWords = new byte[SIZE][];
+        this.oddAsciiWords = new byte[SIZE][];
+        for (int hexValue = 0; hexValue < SIZE; hexValue++) {
+            checkWord(this.evenWords[hexValue], hexValue);
+            checkWord(this.oddWords[hexValue], hexValue);
+            this.pgpWords[hexValue] = new PGPWords(this.evenWords[hexValue], this.oddWords[hexValue]);
+            this.evenAsciiWords[hexValue] = this.evenWords[hexValue].getBytes(StandardCharsets.US_ASCII);
+            this.oddAsciiWords[hexValue] = this.oddWords[hexValue].getBytes(StandardCharsets.US_ASCII);
+        }
+        this.index = new PGPWordIndex(this.evenWords, this.oddWords);
+    }
+
+    /**
+     * Build a table for a custom word list.
+     *
+     * @param evenWords Even word for each hexadecimal value, indexed by the value
+     * @param oddWords Odd word for each hexadecimal value, indexed by the value
+     * @return Table for the words
+     *
+     * @throws IllegalArgumentException If there are not exactly {@link #SIZE} words of each type, or the words are
+     *     empty, contain whitespace or characters other than printable ASCII, or are not unique (ignoring case)
+     */
+    public static PGPWordTable of(final String[] evenWords, final String[] oddWords) {
+        return new PGPWordTable(evenWords, oddWords);
+    }
+
+    /**
+     * Read a table in the binary format described above. The stream is read up to the end of the table, and is not
+     * closed.
+     *
+     * @param input Stream to read from
+     * @return Table for the words read
+     *
+     * @throws IOException If the stream cannot be read, is not in the binary format or ends early
+     * @throws IllegalArgumentException If the words read are empty, contain whitespace or characters other than
+     *     printable ASCII, or are not unique
+     */
+    public static PGPWordTable load(final InputStream input) throws IOException {
+        final DataInputStream data = new DataInputStream(input);
+        final byte[] magic = new byte[MAGIC.length];
+        try {
+            data.readFully(magic);
+            if (!Arrays.equals(MAGIC, magic)) {
+                throw new IOException("Not a PGP Word List resource");
+            }
+            final int version = data.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format("Unsupported PGP Word List format version: %d", version));
+            }
+
+            final String[] evenWords = new String[SIZE];
+            final String[] oddWords = new String[SIZE];
+            final byte[] word = new byte[255];
+            for (int hexValue = 0; hexValue < SIZE; hexValue++) {
+                evenWords[hexValue] = readWord(data, word);
+                oddWords[hexValue] = readWord(data, word);
+            }
+
+            return new PGPWordTable(evenWords, oddWords);
+        } catch (final EOFException e) {
+            throw new IOException("PGP Word List resource is truncated", e);
+        }
+    }
+
+    /**
+     * Write this table in the binary format described above. The stream is not closed.
+     *
+     * @param output Stream to write to
+     *
+     * @throws IOException If the stream cannot be written to
+     * @throws IllegalStateException If a word is longer than 255 bytes in UTF-8, so cannot be represented
+     */
+    public void write(final OutputStream output) throws IOException {
+        output.write(MAGIC);
+        output.write(FORMAT_VERSION);
+        for (int hexValue = 0; hexValue < SIZE; hexValue++) {
+            writeWord(output, evenWords[hexValue]);
+            writeWord(output, oddWords[hexValue]);
+        }
+    }
+
+    /**
+     * @return Table for the standard PGP Word List
+     */
+    static PGPWordTable getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * @param hexValue Hex value, between 00 and FF
+     * @return Words associated with hex value
+     */
+    PGPWords getPGPWords(final int hexValue) {
+        return pgpWords[hexValue];
+    }
+
+    /**
+     * @param hexValue Hex value, between 00 and FF
+     * @return Even word associated with hex value
+     */
+    String getEvenWord(final int hexValue) {
+        return evenWords[hexValue];
+    }
+
+    /**
+     * @param hexValue Hex value, between 00 and FF
+     * @return Odd word associated with hex value
+     */
+    String getOddWord(final int hexValue) {
+        return oddWords[hexValue];
+    }
+
+    /**
+     * @param hexValue Hex value, between 00 and FF
+     * @param position Position of the word in the sentence, which selects the even or odd word
+     * @return ASCII bytes of the word associated with hex value, which must not be modified
+     */
+    byte[] getAsciiWord(final int hexValue, final long position) {
+        return (position & 1) == 0 ? evenAsciiWords[hexValue] : oddAsciiWords[hexValue];
+    }
+
+    /**
+     * @return Index used for reverse lookups
+     */
+    PGPWordIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Ensure that a word can be used in a sentence, and is printable ASCII so that case-insensitive and byte lookups
+     * match it correctly.
+     *
+     * @param word Word to check
+     * @param hexValue Hex value the word is associated with
+     */
+    private static void checkWord(final String word, final int hexValue) {
+        if (word == null || word.isEmpty()) {
+            throw new IllegalArgumentException(String.format("No word for hex value %02X", hexValue));
+        }
+        for (int i = 0; i < word.length(); i++) {
+            final char c = word.charAt(i);
+            if (Character.isWhitespace(c)) {
+                throw new IllegalArgumentException(String.format("Word for hex value %02X contains whitespace: %s",
+                        hexValue, word));
+            } else if (c < 0x21 || c > 0x7E) {
+                throw new IllegalArgumentException(String.format(
+                        "Word for hex value %02X contains a character other than printable ASCII: %s", hexValue, word));
+            }
+        }
+    }
+
+    /**
+     * @param data Stream to read from
+     * @param buffer Buffer to read the word's bytes into, large enough for any length
+     * @return Word read
+     *
+     * @throws IOException If the stream cannot be read
+     */
+    private static String readWord(final DataInputStream data, final byte[] buffer) throws IOException {
+        final int length = data.readUnsignedByte();
+        data.readFully(buffer, 0, length);
+
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param output Stream to write to
+     * @param word Word to write
+     *
+     * @throws IOException If the stream cannot be written to
+     */
+    private static void writeWord(final OutputStream output, final String word) throws IOException {
+        final byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 255) {
+            throw new IllegalStateException(String.format("Word is too long to write: %s", word));
+        }
+        output.write(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * @return Table for the standard PGP Word List, read from its resource
+     */
+    private static PGPWordTable loadDefault() {
+        try (InputStream input = PGPWordTable.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (input == null) {
+                throw new IllegalStateException(String.format("PGP Word List resource not found: %s",
+                        DEFAULT_RESOURCE));
+            }
+
+            return load(new BufferedInputStream(input));
+        } catch (final IOException e) {
+            throw new IllegalStateException("Unable to read PGP Word List resource", e);
+        }
+    }
+
+    /**
+     * Holder for the default table. The JVM initialises this class, and so reads the table, exactly once and only when
+     * it is first accessed, and guarantees that every thread sees the fully built table.
+     */
+    private static final class DefaultHolder {
+
+        /** Table for the standard PGP Word List. */
+        private static final PGPWordTable INSTANCE = loadDefault();
+    }
+}
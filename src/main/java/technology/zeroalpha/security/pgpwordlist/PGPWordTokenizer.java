@@ -0,0 +1,159 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+/**
+ * Splits sentences of PGP Words into whitespace separated words. Text held as characters is split at
+ * {@link Character#isWhitespace(char)}, and text held as ASCII bytes at ASCII whitespace. The methods work on indices
+ * so that callers can look words up in place, without allocating.
+ *
+ * @author Chris Rowe
+ */
+final class PGPWordTokenizer {
+
+    /**
+     * Utility class, not to be instantiated.
+     */
+    private PGPWordTokenizer() {
+    }
+
+    /**
+     * @param text Text being split
+     * @param index Index to start from
+     * @param end Index after the last character to examine
+     * @return Index of the first character at or after the index that is not whitespace, or end if there is none
+     */
+    static int skipWhitespace(final CharSequence text, final int index, final int end) {
+        int i = index;
+        while (i < end && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * @param text Text being split
+     * @param index Index to start from, usually the start of a word
+     * @param end Index after the last character to examine
+     * @return Index of the first whitespace character at or after the index, or end if there is none
+     */
+    static int skipWord(final CharSequence text, final int index, final int end) {
+        int i = index;
+        while (i < end && !Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * @param ascii Array holding ASCII text
+     * @param index Index to start from
+     * @param end Index after the last byte to examine
+     * @return Index of the first byte at or after the index that is not whitespace, or end if there is none
+     */
+    static int skipWhitespace(final byte[] ascii, final int index, final int end) {
+        int i = index;
+        while (i < end && isWhitespace(ascii[i])) {
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * @param ascii Array holding ASCII text
+     * @param index Index to start from, usually the start of a word
+     * @param end Index after the last byte to examine
+     * @return Index of the first whitespace byte at or after the index, or end if there is none
+     */
+    static int skipWord(final byte[] ascii, final int index, final int end) {
+        int i = index;
+        while (i < end && !isWhitespace(ascii[i])) {
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * @param text Text to count the words of
+     * @return Number of whitespace separated words in the text
+     */
+    static int countWords(final CharSequence text) {
+        final int length = text.length();
+        int count = 0;
+        int index = skipWhitespace(text, 0, length);
+        while (index < length) {
+            count++;
+            index = skipWhitespace(text, skipWord(text, index, length), length);
+        }
+
+        return count;
+    }
+
+    /**
+     * @param ascii Array holding ASCII text
+     * @param offset Index of the first byte of the text
+     * @param length Number of bytes in the text
+     * @return Number of whitespace separated words in the text
+     */
+    static int countWords(final byte[] ascii, final int offset, final int length) {
+        final int end = offset + length;
+        int count = 0;
+        int index = skipWhitespace(ascii, offset, end);
+        while (index < end) {
+            count++;
+            index = skipWhitespace(ascii, skipWord(ascii, index, end), end);
+        }
+
+        return count;
+    }
+
+    /**
+     * Find a word in a whitespace separated sentence.
+     *
+     * @param text Sentence of words
+     * @param position Index of the word in the sentence
+     * @return The word, which is empty if the sentence has too few words
+     */
+    static CharSequence findWord(final CharSequence text, final long position) {
+        final int length = text.length();
+        int index = skipWhitespace(text, 0, length);
+        for (long current = 0; current < position && index < length; current++) {
+            index = skipWhitespace(text, skipWord(text, index, length), length);
+        }
+
+        return text.subSequence(index, skipWord(text, index, length));
+    }
+
+    /**
+     * @param b ASCII byte
+     * @return True if the byte is ASCII whitespace
+     */
+    static boolean isWhitespace(final byte b) {
+        return b == ' ' || (b >= '\t' && b <= '\r');
+    }
+}
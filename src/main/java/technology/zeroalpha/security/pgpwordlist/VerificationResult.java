@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+/**
+ * Outcome of comparing a spoken sentence of PGP Words against an expected fingerprint, as returned by
+ * {@link PGPWordListConverter#verify(byte[], CharSequence)}. Besides whether the sentence matched, it records where the
+ * first difference was and how many words were unrecognised or at the wrong position, so that a user can be told what
+ * to read back again.
+ *
+ * @author Chris Rowe
+ */
+public final class VerificationResult {
+
+    /** Position reported when the sentence matched. */
+    public static final int NO_POSITION = -1;
+
+    /** Index of the first word that did not match, or {@link #NO_POSITION}. */
+    private final int firstMismatchPosition;
+
+    /** Number of words in the sentence. */
+    private final int wordCount;
+
+    /** Number of words that were not recognised. */
+    private final int unrecognisedWordCount;
+
+    /** Number of recognised words that were at the wrong position. */
+    private final int parityErrorCount;
+
+    /**
+     * @param firstMismatchPosition Index of the first word that did not match, or {@link #NO_POSITION}
+     * @param wordCount Number of words in the sentence
+     * @param unrecognisedWordCount Number of words that were not recognised
+     * @param parityErrorCount Number of recognised words that were at the wrong position
+     */
+    VerificationResult(final int firstMismatchPosition, final int wordCount, final int unrecognisedWordCount,
+                       final int parityErrorCount) {
+        this.firstMismatchPosition = firstMismatchPosition;
+        this.wordCount = wordCount;
+        this.unrecognisedWordCount = unrecognisedWordCount;
+        this.parityErrorCount = parityErrorCount;
+    }
+
+    /**
+     * @return True if every word matched the expected bytes, and there were no missing or extra words
+     */
+    public boolean isMatch() {
+        return firstMismatchPosition == NO_POSITION;
+    }
+
+    /**
+     * Index of the first word that did not match. If the sentence is a correct prefix of the expected words, this is
+     * the index of the first missing word.
+     *
+     * @return the position of the first mismatch, or {@link #NO_POSITION} if the sentence matched
+     */
+    public int getFirstMismatchPosition() {
+        return firstMismatchPosition;
+    }
+
+    /**
+     * @return the number of words in the sentence
+     */
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    /**
+     * @return the number of words that were not recognised as PGP Words
+     */
+    public int getUnrecognisedWordCount() {
+        return unrecognisedWordCount;
+    }
+
+    /**
+     * @return the number of recognised words that were an even word at an odd position, or an odd word at an even
+     *     position
+     */
+    public int getParityErrorCount() {
+        return parityErrorCount;
+    }
+
+    @Override
+    public String toString() {
+        return isMatch()
+                ? "VerificationResult[match]"
+                : String.format("VerificationResult[mismatch at %d, %d unrecognised, %d wrong parity]",
+                        firstMismatchPosition, unrecognisedWordCount, parityErrorCount);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests to ensure the correct operation of {@link ConversionStatistics}.
+ *
+ * @author Chris Rowe
+ */
+public class ConversionStatisticsTest {
+
+    /** Instance of {@link ConversionStatistics} to test. */
+    private final ConversionStatistics statisticsUnderTest = new ConversionStatistics();
+
+    /**
+     * Ensure that successes and failures are counted against their operation and error.
+     */
+    @Test
+    public void counts_successes_and_failures_per_operation() {
+        // given
+
+        // when
+        statisticsUnderTest.onSuccess(ConversionOperation.ENCODE, 32, 1000);
+        statisticsUnderTest.onSuccess(ConversionOperation.ENCODE, 8, 1000);
+        statisticsUnderTest.onFailure(ConversionOperation.DECODE, ConversionError.WRONG_PARITY);
+
+        // then
+        assertEquals(2, statisticsUnderTest.getCallCount(ConversionOperation.ENCODE));
+        assertEquals(40, statisticsUnderTest.getByteCount(ConversionOperation.ENCODE));
+        assertEquals(1, statisticsUnderTest.getCallCount(ConversionOperation.DECODE));
+        assertEquals(1, statisticsUnderTest.getFailureCount(ConversionOperation.DECODE));
+        assertEquals(0, statisticsUnderTest.getSuccessCount(ConversionOperation.DECODE));
+        assertEquals(1, statisticsUnderTest.getErrorCount(ConversionError.WRONG_PARITY));
+        assertEquals(0, statisticsUnderTest.getErrorCount(ConversionError.UNRECOGNISED_WORD));
+    }
+
+    /**
+     * Ensure that latencies are placed in power of two buckets.
+     */
+    @Test
+    public void getLatencyHistogram_buckets_by_power_of_two() {
+        // given
+
+        // when
+        statisticsUnderTest.onSuccess(ConversionOperation.DECODE, 1, 0);
+        statisticsUnderTest.onSuccess(ConversionOperation.DECODE, 1, 1023);
+        statisticsUnderTest.onSuccess(ConversionOperation.DECODE, 1, 1024);
+        statisticsUnderTest.onSuccess(ConversionOperation.DECODE, 1, Long.MAX_VALUE);
+
+        // then
+        final long[] histogram = statisticsUnderTest.getLatencyHistogram(ConversionOperation.DECODE);
+        assertEquals(ConversionStatistics.LATENCY_BUCKETS, histogram.length);
+        assertEquals(1, histogram[0]);
+        assertEquals(1, histogram[9]);
+        assertEquals(1, histogram[10]);
+        assertEquals(1, histogram[62]);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit tests to ensure the correct operation of {@link HexStyle}.
+ *
+ * @author Chris Rowe
+ */
+public class HexStyleTest {
+
+    /**
+     * Ensure that every style formats values with the correct case and width.
+     */
+    @Test
+    public void format_returns_value_in_style() {
+        // given
+
+        // when
+
+        // then
+        assertEquals("A", HexStyle.UPPER_CASE.format(0x0A));
+        assertEquals("a", HexStyle.LOWER_CASE.format(0x0A));
+        assertEquals("0A", HexStyle.UPPER_CASE_FIXED_WIDTH.format(0x0A));
+        assertEquals("0a", HexStyle.LOWER_CASE_FIXED_WIDTH.format(0x0A));
+        assertEquals("0", HexStyle.UPPER_CASE.format(0x00));
+        assertEquals("C5", HexStyle.UPPER_CASE.format(0xC5));
+        assertEquals("ff", HexStyle.LOWER_CASE_FIXED_WIDTH.format(0xFF));
+    }
+
+    /**
+     * Ensure that every value matches {@link String#format(String, Object...)}, and that formatting returns the same
+     * precomputed String each time.
+     */
+    @Test
+    public void format_matches_String_format_for_every_value() {
+        // given
+
+        for (int value = 0; value < 256; value++) {
+            // when
+            final String formatted = HexStyle.LOWER_CASE_FIXED_WIDTH.format(value);
+
+            // then
+            assertEquals(String.format("%02x", value), formatted);
+            assertEquals(String.format("%X", value), HexStyle.UPPER_CASE.format(value));
+            assertSame(formatted, HexStyle.LOWER_CASE_FIXED_WIDTH.format(value));
+        }
+    }
+}
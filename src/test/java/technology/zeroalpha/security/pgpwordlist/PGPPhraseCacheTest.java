@@ -0,0 +1,159 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit tests to ensure the correct operation of {@link PGPPhraseCache}.
+ *
+ * @author Chris Rowe
+ */
+public class PGPPhraseCacheTest {
+
+    /** Instance of {@link PGPPhraseCache} to test, with a single stripe so that eviction order is predictable. */
+    private final PGPPhraseCache cacheUnderTest = new PGPPhraseCache(new PGPWordListConverter(), 2, 1);
+
+    /**
+     * Ensure that repeated encoding of the same bytes is served from the cache.
+     */
+    @Test
+    public void encode_returns_cached_sentence() {
+        // given
+        final String first = cacheUnderTest.encode(new byte[] {0x0A, 0x21});
+
+        // when
+        final String second = cacheUnderTest.encode(new byte[] {0x0A, 0x21});
+
+        // then
+        assertEquals("allow Camelot", first);
+        assertSame(first, second);
+        assertEquals(1, cacheUnderTest.getHitCount());
+        assertEquals(1, cacheUnderTest.getMissCount());
+    }
+
+    /**
+     * Ensure that sentences differing only in case and whitespace share a cache entry, and that each call returns its
+     * own array.
+     *
+     * @throws InvalidPGPWordException Exception thrown by cache
+     */
+    @Test
+    public void decode_returns_cached_bytes_for_normalised_sentence() throws InvalidPGPWordException {
+        // given
+        final byte[] first = cacheUnderTest.decode("allow Camelot");
+        first[0] = 0x00;
+
+        // when
+        final byte[] second = cacheUnderTest.decode("  ALLOW\tcamelot ");
+
+        // then
+        assertArrayEquals(new byte[] {0x0A, 0x21}, second);
+        assertNotSame(first, second);
+        assertEquals(1, cacheUnderTest.getHitCount());
+    }
+
+    /**
+     * Ensure that the least recently used entry is evicted once the cache is full.
+     */
+    @Test
+    public void encode_evicts_least_recently_used_entry() {
+        // given
+        cacheUnderTest.encode(new byte[] {0x01});
+        cacheUnderTest.encode(new byte[] {0x02});
+        cacheUnderTest.encode(new byte[] {0x01});
+
+        // when
+        cacheUnderTest.encode(new byte[] {0x03});
+        cacheUnderTest.encode(new byte[] {0x01});
+        cacheUnderTest.encode(new byte[] {0x02});
+
+        // then
+        assertEquals(2, cacheUnderTest.getEvictionCount());
+        assertEquals(2, cacheUnderTest.getHitCount());
+        assertEquals(4, cacheUnderTest.getMissCount());
+        assertEquals(2, cacheUnderTest.size());
+    }
+
+    /**
+     * Ensure that modifying an array after it has been encoded does not affect the cached entry.
+     */
+    @Test
+    public void encode_is_unaffected_by_later_changes_to_array() {
+        // given
+        final byte[] bytes = {0x0A, 0x21};
+        cacheUnderTest.encode(bytes);
+        bytes[0] = (byte) 0xFF;
+
+        // when
+        final String modified = cacheUnderTest.encode(bytes);
+        final String original = cacheUnderTest.encode(new byte[] {0x0A, 0x21});
+
+        // then
+        assertEquals("Zulu Camelot", modified);
+        assertEquals("allow Camelot", original);
+        assertEquals(1, cacheUnderTest.getHitCount());
+    }
+
+    /**
+     * Ensure that the configured maximum is honoured even when it is smaller than the number of stripes.
+     */
+    @Test
+    public void encode_holds_no_more_than_maximum_size_with_many_stripes() {
+        // given
+        final PGPPhraseCache cache = new PGPPhraseCache(new PGPWordListConverter(), 3, PGPPhraseCache.DEFAULT_STRIPES);
+
+        // when
+        for (int i = 0; i < 64; i++) {
+            cache.encode(new byte[] {(byte) i});
+        }
+
+        // then
+        assertEquals(3, cache.size());
+        assertEquals(61, cache.getEvictionCount());
+    }
+
+    /**
+     * Ensure that invalid sentences are rejected, and not cached.
+     *
+     * @throws InvalidPGPWordException Exception thrown by cache
+     */
+    @Test (expected = InvalidPGPWordException.class)
+    public void decode_throws_InvalidPGPWordException_for_invalid_sentence() throws InvalidPGPWordException {
+        // given
+
+        // when
+        try {
+            cacheUnderTest.decode("Camelot allow");
+        } finally {
+            // then
+            assertEquals(0, cacheUnderTest.size());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Unit tests to ensure the correct operation of {@link PGPPhraseView}.
+ *
+ * @author Chris Rowe
+ */
+public class PGPPhraseViewTest {
+
+    /**
+     * Ensure that every character, and the length, match the sentence produced by {@link PGPWordListConverter}.
+     */
+    @Test
+    public void view_matches_encoded_sentence() {
+        // given
+        final byte[] bytes = new byte[33];
+        new Random(33).nextBytes(bytes);
+        final String expected = new PGPWordListConverter().encode(bytes);
+
+        // when
+        final PGPPhraseView view = new PGPPhraseView(bytes);
+
+        // then
+        assertEquals(expected.length(), view.length());
+        for (int i = 0; i < expected.length(); i++) {
+            assertEquals(expected.charAt(i), view.charAt(i));
+        }
+        assertEquals(expected, view.toString());
+        assertEquals(33, view.getWordCount());
+    }
+
+    /**
+     * Ensure that sub-sequences, including nested ones and ones spanning separators, give the correct characters.
+     */
+    @Test
+    public void subSequence_returns_correct_characters() {
+        // given
+        final PGPPhraseView view = new PGPPhraseView(new byte[] {(byte) 0xFF, (byte) 0xFF, 0x0A, 0x21}, ", ");
+
+        // when
+        final CharSequence middle = view.subSequence(2, 17);
+        final CharSequence nested = middle.subSequence(2, 9);
+
+        // then
+        assertEquals("Zulu, Yucatan, allow, Camelot", view.toString());
+        assertEquals("lu, Yucatan, al", middle.toString());
+        assertEquals(15, middle.length());
+        assertEquals(", Yucat", nested.toString());
+        assertEquals('Y', nested.charAt(2));
+    }
+
+    /**
+     * Ensure that views are equal when made from the same bytes, and unaffected by later changes to the array.
+     */
+    @Test
+    public void equals_and_hashCode_are_based_on_bytes() {
+        // given
+        final byte[] bytes = {0x0A, 0x21};
+        final PGPPhraseView view = new PGPPhraseView(bytes);
+
+        // when
+        bytes[0] = 0x00;
+
+        // then
+        assertEquals(new PGPPhraseView(new byte[] {0x0A, 0x21}), view);
+        assertEquals(new PGPPhraseView(new byte[] {0x0A, 0x21}).hashCode(), view.hashCode());
+        assertNotEquals(new PGPPhraseView(bytes), view);
+        assertEquals("allow Camelot", view.toString());
+    }
+
+    /**
+     * Ensure that a view of no bytes is empty.
+     */
+    @Test
+    public void view_of_no_bytes_is_empty() {
+        // given
+
+        // when
+        final PGPPhraseView view = new PGPPhraseView(new byte[0]);
+
+        // then
+        assertEquals(0, view.length());
+        assertEquals("", view.toString());
+    }
+}
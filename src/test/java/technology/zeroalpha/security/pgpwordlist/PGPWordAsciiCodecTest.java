@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests to ensure the correct operation of {@link PGPWordAsciiCodec}.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordAsciiCodecTest {
+
+    /** Instance of {@link PGPWordAsciiCodec} to test. */
+    private final PGPWordAsciiCodec codecUnderTest = new PGPWordAsciiCodec();
+
+    /**
+     * Ensure that encoding gives the ASCII bytes of the words produced by {@link PGPWordListConverter}, through every
+     * type of output.
+     *
+     * @throws IOException Exception thrown by stream
+     */
+    @Test
+    public void encode_matches_converter_for_every_output() throws IOException {
+        // given
+        final byte[] bytes = new byte[257];
+        new Random(42).nextBytes(bytes);
+        final byte[] expected = new PGPWordListConverter().encode(bytes).getBytes(StandardCharsets.US_ASCII);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(codecUnderTest.maxEncodedLength(bytes.length));
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        // when
+        final byte[] array = codecUnderTest.encode(bytes);
+        codecUnderTest.encode(bytes, 0, bytes.length, buffer);
+        codecUnderTest.encode(bytes, 0, bytes.length, stream);
+
+        // then
+        assertArrayEquals(expected, array);
+        final byte[] buffered = new byte[buffer.position()];
+        ((Buffer) buffer).flip();
+        buffer.get(buffered);
+        assertArrayEquals(expected, buffered);
+        assertArrayEquals(expected, stream.toByteArray());
+    }
+
+    /**
+     * Ensure that ASCII words are decoded back into bytes, ignoring case and extra whitespace.
+     *
+     * @throws InvalidPGPWordException Exception thrown by codec
+     */
+    @Test
+    public void decode_returns_correct_bytes() throws InvalidPGPWordException {
+        // given
+        final byte[] ascii = " ZULU\tyucatan\r\nallow  Camelot ".getBytes(StandardCharsets.US_ASCII);
+
+        // when
+        final byte[] bytes = codecUnderTest.decode(ascii);
+
+        // then
+        assertArrayEquals(new byte[] {(byte) 0xFF, (byte) 0xFF, 0x0A, 0x21}, bytes);
+    }
+
+    /**
+     * Ensure that decoding a word at the wrong position throws an {@link InvalidPGPWordException}.
+     *
+     * @throws InvalidPGPWordException Exception thrown by codec
+     */
+    @Test (expected = InvalidPGPWordException.class)
+    public void decode_throws_InvalidPGPWordException_if_word_has_wrong_parity() throws InvalidPGPWordException {
+        // given
+        final byte[] ascii = "Camelot".getBytes(StandardCharsets.US_ASCII);
+
+        // when
+        codecUnderTest.decode(ascii);
+
+        // then
+    }
+
+    /**
+     * Ensure that the supplied separator is used between words.
+     */
+    @Test
+    public void encode_uses_separator() {
+        // given
+        final PGPWordAsciiCodec codec = new PGPWordAsciiCodec("\n");
+
+        // when
+        final byte[] ascii = codec.encode(new byte[] {0x0A, 0x21});
+
+        // then
+        assertEquals("allow\nCamelot", new String(ascii, StandardCharsets.US_ASCII));
+    }
+}
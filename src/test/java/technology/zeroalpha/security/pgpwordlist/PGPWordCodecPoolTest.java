@@ -0,0 +1,110 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit tests to ensure the correct operation of {@link PGPWordCodecPool}.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordCodecPoolTest {
+
+    /** Instance of {@link PGPWordCodecPool} to test. */
+    private final PGPWordCodecPool poolUnderTest = new PGPWordCodecPool(1);
+
+    /**
+     * Ensure that released instances are reset and handed out again.
+     */
+    @Test
+    public void borrow_reuses_released_instances() {
+        // given
+        final PGPWordEncoder encoder = poolUnderTest.borrowEncoder();
+        encoder.encode(new byte[] {0x0A}, 0, 1);
+        poolUnderTest.release(encoder);
+        final PGPWordDecoder decoder = poolUnderTest.borrowDecoder();
+        poolUnderTest.release(decoder);
+
+        // when
+        final PGPWordEncoder reusedEncoder = poolUnderTest.borrowEncoder();
+        final PGPWordDecoder reusedDecoder = poolUnderTest.borrowDecoder();
+
+        // then
+        assertSame(encoder, reusedEncoder);
+        assertEquals(0, reusedEncoder.getPosition());
+        assertSame(decoder, reusedDecoder);
+    }
+
+    /**
+     * Ensure that a new instance is created when the pool is empty, and that instances released to a full pool are
+     * discarded.
+     */
+    @Test
+    public void borrow_creates_instance_when_pool_is_empty() {
+        // given
+        final PGPWordEncoder first = poolUnderTest.borrowEncoder();
+        final PGPWordEncoder second = poolUnderTest.borrowEncoder();
+        poolUnderTest.release(first);
+        poolUnderTest.release(second);
+
+        // when
+        final PGPWordEncoder reused = poolUnderTest.borrowEncoder();
+        final PGPWordEncoder created = poolUnderTest.borrowEncoder();
+
+        // then
+        assertNotSame(first, second);
+        assertSame(first, reused);
+        assertNotSame(second, created);
+    }
+
+    /**
+     * Ensure that each thread is given its own reset instances.
+     *
+     * @throws InterruptedException Exception thrown by thread
+     */
+    @Test
+    public void getThreadLocalEncoder_returns_reset_instance_per_thread() throws InterruptedException {
+        // given
+        final PGPWordEncoder encoder = PGPWordCodecPool.getThreadLocalEncoder();
+        encoder.encode(new byte[] {0x0A}, 0, 1);
+        final PGPWordEncoder[] otherThreadEncoder = new PGPWordEncoder[1];
+        final Thread thread = new Thread(() -> otherThreadEncoder[0] = PGPWordCodecPool.getThreadLocalEncoder());
+
+        // when
+        thread.start();
+        thread.join();
+        final PGPWordEncoder sameThreadEncoder = PGPWordCodecPool.getThreadLocalEncoder();
+
+        // then
+        assertSame(encoder, sameThreadEncoder);
+        assertEquals(0, sameThreadEncoder.getPosition());
+        assertNotSame(encoder, otherThreadEncoder[0]);
+        assertSame(PGPWordCodecPool.getThreadLocalDecoder(), PGPWordCodecPool.getThreadLocalDecoder());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CoderResult;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests to ensure the correct operation of {@link PGPWordDecoder}.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordDecoderTest {
+
+    /** Instance of {@link PGPWordDecoder} to test. */
+    private final PGPWordDecoder decoderUnderTest = new PGPWordDecoder();
+
+    /**
+     * Ensure that a word cut off at the end of the source buffer is left in place until more input arrives.
+     */
+    @Test
+    public void decode_leaves_incomplete_word_in_source() {
+        // given
+        final CharBuffer src = CharBuffer.allocate(64);
+        src.put("Zulu Yucatan al").flip();
+        final ByteBuffer dst = ByteBuffer.allocateDirect(8);
+
+        // when
+        final CoderResult first = decoderUnderTest.decode(src, dst, false);
+        src.compact().put("low Camelot").flip();
+        final CoderResult second = decoderUnderTest.decode(src, dst, true);
+
+        // then
+        assertEquals(CoderResult.UNDERFLOW, first);
+        assertEquals(CoderResult.UNDERFLOW, second);
+        final byte[] bytes = new byte[dst.flip().remaining()];
+        dst.get(bytes);
+        assertArrayEquals(new byte[] {(byte) 0xFF, (byte) 0xFF, 0x0A, 0x21}, bytes);
+    }
+
+    /**
+     * Ensure that decoding stops with an overflow when the destination is full.
+     */
+    @Test
+    public void decode_overflows_when_destination_is_full() {
+        // given
+        final CharBuffer src = CharBuffer.wrap("allow Camelot");
+        final ByteBuffer dst = ByteBuffer.allocate(1);
+
+        // when
+        final CoderResult result = decoderUnderTest.decode(src, dst, true);
+
+        // then
+        assertEquals(CoderResult.OVERFLOW, result);
+        assertEquals("Camelot", src.toString());
+    }
+
+    /**
+     * Ensure that unrecognised words are reported as malformed, and words at the wrong position as unmappable, with
+     * the source left at the start of the word.
+     */
+    @Test
+    public void decode_reports_invalid_words() {
+        // given
+        final CharBuffer unrecognised = CharBuffer.wrap("allow foo");
+        final CharBuffer wrongParity = CharBuffer.wrap("Camelot");
+
+        // when
+        final CoderResult malformed = decoderUnderTest.decode(unrecognised, ByteBuffer.allocate(8), true);
+        final CoderResult unmappable = decoderUnderTest.reset().decode(wrongParity, ByteBuffer.allocate(8), true);
+
+        // then
+        assertTrue(malformed.isMalformed());
+        assertEquals(3, malformed.length());
+        assertEquals("foo", unrecognised.toString());
+        assertTrue(unmappable.isUnmappable());
+        assertEquals(7, unmappable.length());
+    }
+
+    /**
+     * Ensure that decoding a complete sentence resets the decoder and reuses its buffer.
+     *
+     * @throws InvalidPGPWordException Exception thrown by decoder
+     */
+    @Test
+    public void decode_sentence_resets_and_reuses_buffer() throws InvalidPGPWordException {
+        // given
+        decoderUnderTest.decode(CharBuffer.wrap("allow"), ByteBuffer.allocate(1), true);
+
+        // when
+        final ByteBuffer first = decoderUnderTest.decode(" Zulu  Yucatan allow ");
+        final byte[] firstBytes = new byte[first.remaining()];
+        first.get(firstBytes);
+        final ByteBuffer second = decoderUnderTest.decode("allow Camelot");
+
+        // then
+        assertArrayEquals(new byte[] {(byte) 0xFF, (byte) 0xFF, 0x0A}, firstBytes);
+        assertSame(first, second);
+        assertEquals(2, second.remaining());
+        assertEquals(0x21, second.get(1));
+    }
+
+    /**
+     * Ensure that decoding a complete sentence throws an {@link InvalidPGPWordException} for a word at the wrong
+     * position.
+     *
+     * @throws InvalidPGPWordException Exception thrown by decoder
+     */
+    @Test (expected = InvalidPGPWordException.class)
+    public void decode_sentence_throws_InvalidPGPWordException_if_word_has_wrong_parity()
+            throws InvalidPGPWordException {
+        // given
+
+        // when
+        decoderUnderTest.decode("Camelot allow");
+
+        // then
+    }
+}
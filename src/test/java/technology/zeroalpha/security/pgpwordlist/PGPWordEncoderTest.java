@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CoderResult;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit tests to ensure the correct operation of {@link PGPWordEncoder}.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordEncoderTest {
+
+    /** Instance of {@link PGPWordEncoder} to test. */
+    private final PGPWordEncoder encoderUnderTest = new PGPWordEncoder();
+
+    /**
+     * Ensure that bytes from a direct buffer are encoded into alternating even and odd words.
+     */
+    @Test
+    public void encode_writes_words_from_direct_buffer() {
+        // given
+        final ByteBuffer src = ByteBuffer.allocateDirect(4);
+        src.put(new byte[] {(byte) 0xFF, (byte) 0xFF, 0x0A, 0x21}).flip();
+        final CharBuffer dst = CharBuffer.allocate(64);
+
+        // when
+        final CoderResult result = encoderUnderTest.encode(src, dst);
+
+        // then
+        assertEquals(CoderResult.UNDERFLOW, result);
+        assertEquals("Zulu Yucatan allow Camelot", dst.flip().toString());
+        assertEquals(0, src.remaining());
+    }
+
+    /**
+     * Ensure that encoding stops with an overflow, without writing a partial word, when the destination is full, and
+     * that it resumes with the correct parity.
+     */
+    @Test
+    public void encode_overflows_without_partial_words_and_resumes() {
+        // given
+        final ByteBuffer src = ByteBuffer.wrap(new byte[] {0x0A, 0x21});
+        final CharBuffer dst = CharBuffer.allocate(8);
+        final StringBuilder output = new StringBuilder();
+
+        // when
+        final CoderResult first = encoderUnderTest.encode(src, dst);
+        dst.flip();
+        output.append(dst);
+        dst.clear();
+        final CoderResult second = encoderUnderTest.encode(src, dst);
+        dst.flip();
+        output.append(dst);
+
+        // then
+        assertEquals(CoderResult.OVERFLOW, first);
+        assertEquals(CoderResult.UNDERFLOW, second);
+        assertEquals("allow Camelot", output.toString());
+        assertEquals(2, encoderUnderTest.getPosition());
+    }
+
+    /**
+     * Ensure that a reset encoder treats the next byte as being at an even position.
+     */
+    @Test
+    public void reset_restarts_at_even_position() {
+        // given
+        encoderUnderTest.encode(ByteBuffer.wrap(new byte[] {0x00}), CharBuffer.allocate(64));
+        final CharBuffer dst = CharBuffer.allocate(64);
+
+        // when
+        encoderUnderTest.reset().encode(ByteBuffer.wrap(new byte[] {0x0A}), dst);
+
+        // then
+        assertEquals("allow", dst.flip().toString());
+    }
+
+    /**
+     * Ensure that encoding a complete sentence resets the encoder and reuses its buffer.
+     */
+    @Test
+    public void encode_sentence_resets_and_reuses_buffer() {
+        // given
+        encoderUnderTest.encode(ByteBuffer.wrap(new byte[] {0x0A}), CharBuffer.allocate(16));
+
+        // when
+        final CharSequence first = encoderUnderTest.encode(new byte[] {(byte) 0xFF, (byte) 0xFF}, 0, 2).toString();
+        final CharSequence second = encoderUnderTest.encode(new byte[] {0x0A, 0x21}, 0, 2);
+
+        // then
+        assertEquals("Zulu Yucatan", first);
+        assertEquals("allow Camelot", second.toString());
+        assertSame(second, encoderUnderTest.encode(new byte[0], 0, 0));
+    }
+}
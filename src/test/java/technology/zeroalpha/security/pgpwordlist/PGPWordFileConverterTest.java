@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests to ensure the correct operation of {@link PGPWordFileConverter}.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordFileConverterTest {
+
+    /** Folder for the files used by each test. */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Ensure that a file is encoded into lines of words, with alternating even and odd words.
+     *
+     * @throws IOException Exception thrown by converter
+     */
+    @Test
+    public void encode_writes_lines_of_words() throws IOException {
+        // given
+        final Path input = folder.newFile().toPath();
+        final Path output = folder.newFile().toPath();
+        Files.write(input, new byte[] {(byte) 0xFF, (byte) 0xFF, 0x0A, 0x21, 0x00});
+
+        // when
+        final long count = new PGPWordFileConverter(2, 1).encode(input, output);
+
+        // then
+        assertEquals(5, count);
+        assertEquals("Zulu Yucatan\nallow Camelot\naardvark\n",
+                new String(Files.readAllBytes(output), StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Ensure that encoding in parallel gives the same listing as encoding on one thread, and that the listing decodes
+     * back to the original file.
+     *
+     * @throws Exception Exception thrown by converter
+     */
+    @Test
+    public void parallel_encode_matches_sequential_and_round_trips() throws Exception {
+        // given
+        final byte[] bytes = new byte[(1 << 20) + 3];
+        new Random(42).nextBytes(bytes);
+        final Path input = folder.newFile().toPath();
+        final Path sequential = folder.newFile().toPath();
+        final Path parallel = folder.newFile().toPath();
+        final Path decoded = folder.newFile().toPath();
+        Files.write(input, bytes);
+
+        // when
+        new PGPWordFileConverter(16, 1).encode(input, sequential);
+        new PGPWordFileConverter(16, 4).encode(input, parallel);
+        final long count = new PGPWordFileConverter().decode(parallel, decoded);
+
+        // then
+        assertArrayEquals(Files.readAllBytes(sequential), Files.readAllBytes(parallel));
+        assertEquals(bytes.length, count);
+        assertArrayEquals(bytes, Files.readAllBytes(decoded));
+    }
+
+    /**
+     * Ensure that decoding a listing with a word at the wrong position throws an {@link InvalidPGPWordException}.
+     *
+     * @throws Exception Exception thrown by converter
+     */
+    @Test (expected = InvalidPGPWordException.class)
+    public void decode_throws_InvalidPGPWordException_if_word_has_wrong_parity() throws Exception {
+        // given
+        final Path input = folder.newFile().toPath();
+        Files.write(input, "allow Camelot\nCamelot\n".getBytes(StandardCharsets.US_ASCII));
+
+        // when
+        new PGPWordFileConverter().decode(input, folder.newFile().toPath());
+
+        // then
+    }
+
+    /**
+     * Ensure that a converter given a custom list writes and reads the words of that list.
+     *
+     * @throws Exception Exception thrown by converter
+     */
+    @Test
+    public void custom_list_is_used_to_encode_and_decode() throws Exception {
+        // given
+        final Path input = folder.newFile().toPath();
+        final Path listing = folder.newFile().toPath();
+        final Path decoded = folder.newFile().toPath();
+        Files.write(input, new byte[] {0x0A, 0x21});
+        final PGPWordFileConverter converter = new PGPWordFileConverter(PGPWordTableTest.customList(), 8, 1);
+
+        // when
+        converter.encode(input, listing);
+        converter.decode(listing, decoded);
+
+        // then
+        assertEquals("gerade0a ungerade21\n", new String(Files.readAllBytes(listing), StandardCharsets.US_ASCII));
+        assertArrayEquals(new byte[] {0x0A, 0x21}, Files.readAllBytes(decoded));
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests to ensure the correct operation of {@link PGPWordIncrementalDecoder}.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordIncrementalDecoderTest {
+
+    /** Instance of {@link PGPWordIncrementalDecoder} to test. */
+    private final PGPWordIncrementalDecoder decoderUnderTest = new PGPWordIncrementalDecoder();
+
+    /**
+     * Ensure that whole words valid for their positions are accepted and decoded.
+     */
+    @Test
+    public void acceptWord_accepts_words_with_correct_parity() {
+        // when
+        final TokenStatus first = decoderUnderTest.acceptWord("aardvark");
+        final TokenStatus second = decoderUnderTest.acceptWord(" Yucatan ");
+
+        // then
+        assertEquals(TokenStatus.ACCEPTED, first);
+        assertEquals(TokenStatus.ACCEPTED, second);
+        assertEquals(2, decoderUnderTest.getPosition());
+        assertArrayEquals(new byte[] {0x00, (byte) 0xFF}, decoderUnderTest.getDecodedBytes());
+    }
+
+    /**
+     * Ensure that a word with the wrong parity is rejected without advancing, so the correct word can follow it.
+     */
+    @Test
+    public void acceptWord_rejects_word_with_wrong_parity() {
+        // when
+        final TokenStatus wrongParity = decoderUnderTest.acceptWord("adroitness");
+        final TokenStatus retry = decoderUnderTest.acceptWord("aardvark");
+
+        // then
+        assertEquals(TokenStatus.REJECTED, wrongParity);
+        assertEquals(TokenStatus.ACCEPTED, retry);
+        assertEquals(1, decoderUnderTest.getRejectedCount());
+        assertArrayEquals(new byte[] {0x00}, decoderUnderTest.getDecodedBytes());
+    }
+
+    /**
+     * Ensure that an unrecognised word is rejected.
+     */
+    @Test
+    public void acceptWord_rejects_unrecognised_word() {
+        // when
+        final TokenStatus status = decoderUnderTest.acceptWord("ardvark");
+
+        // then
+        assertEquals(TokenStatus.REJECTED, status);
+        assertEquals(0, decoderUnderTest.getPosition());
+    }
+
+    /**
+     * Ensure that a partial word that starts a valid word is reported as ambiguous until it is ended.
+     */
+    @Test
+    public void acceptChars_reports_partial_word_as_ambiguous() {
+        // when
+        final TokenStatus partial = decoderUnderTest.acceptChars("aard");
+        final PGPWordPrefixMatches candidates = decoderUnderTest.getCandidates();
+        final TokenStatus completed = decoderUnderTest.acceptChars("vark ");
+
+        // then
+        assertEquals(TokenStatus.AMBIGUOUS, partial);
+        assertEquals(1, candidates.size());
+        assertEquals("aardvark", candidates.get(0));
+        assertEquals(TokenStatus.ACCEPTED, completed);
+        assertArrayEquals(new byte[] {0x00}, decoderUnderTest.getDecodedBytes());
+    }
+
+    /**
+     * Ensure that a partial word is rejected at the first character that no valid word continues with.
+     */
+    @Test
+    public void acceptChars_rejects_partial_word_early() {
+        // when
+        final TokenStatus valid = decoderUnderTest.acceptChars("aa");
+        final TokenStatus invalid = decoderUnderTest.acceptChars("x");
+        final TokenStatus rest = decoderUnderTest.acceptChars("yz");
+        final TokenStatus ended = decoderUnderTest.acceptChars(" ");
+
+        // then
+        assertEquals(TokenStatus.AMBIGUOUS, valid);
+        assertEquals(TokenStatus.REJECTED, invalid);
+        assertEquals(TokenStatus.REJECTED, rest);
+        assertEquals(TokenStatus.ACCEPTED, ended);
+        assertEquals(1, decoderUnderTest.getRejectedCount());
+        assertEquals(0, decoderUnderTest.getPosition());
+    }
+
+    /**
+     * Ensure that a word rejected part way through, and split across calls, is only reported in the call that rejected
+     * it, so the status of the following words is not hidden.
+     */
+    @Test
+    public void acceptChars_reports_rejection_of_split_word_once() {
+        // when
+        final TokenStatus start = decoderUnderTest.acceptChars("aard");
+        final TokenStatus invalid = decoderUnderTest.acceptChars("vax");
+        final TokenStatus next = decoderUnderTest.acceptChars(" aardvark ");
+
+        // then
+        assertEquals(TokenStatus.AMBIGUOUS, start);
+        assertEquals(TokenStatus.REJECTED, invalid);
+        assertEquals(TokenStatus.ACCEPTED, next);
+        assertEquals(1, decoderUnderTest.getRejectedCount());
+        assertArrayEquals(new byte[] {0x00}, decoderUnderTest.getDecodedBytes());
+    }
+
+    /**
+     * Ensure that the start of a word from the wrong column is rejected before the word is complete.
+     */
+    @Test
+    public void acceptChars_rejects_prefix_only_valid_for_other_parity() {
+        // given
+        decoderUnderTest.acceptWord("aardvark");
+
+        // when
+        final TokenStatus status = decoderUnderTest.acceptChars("aard");
+
+        // then
+        assertEquals(TokenStatus.REJECTED, status);
+    }
+
+    /**
+     * Ensure that several words in one chunk are all decoded, and a rejected word among them is reported.
+     */
+    @Test
+    public void acceptChars_decodes_several_words_in_one_chunk() {
+        // when
+        final TokenStatus valid = decoderUnderTest.acceptChars("topmost Istanbul\tPluto ");
+        final TokenStatus invalid = decoderUnderTest.acceptChars("nonsense vagabond ");
+
+        // then
+        assertEquals(TokenStatus.ACCEPTED, valid);
+        assertEquals(TokenStatus.REJECTED, invalid);
+        assertArrayEquals(new byte[] {(byte) 0xE5, (byte) 0x82, (byte) 0x94, (byte) 0xF2},
+                decoderUnderTest.getDecodedBytes());
+    }
+
+    /**
+     * Ensure that finishing decodes the final partial word.
+     */
+    @Test
+    public void finish_decodes_final_partial_word() {
+        // given
+        decoderUnderTest.acceptChars("topmost Istanbul");
+
+        // when
+        final TokenStatus status = decoderUnderTest.finish();
+
+        // then
+        assertEquals(TokenStatus.ACCEPTED, status);
+        assertArrayEquals(new byte[] {(byte) 0xE5, (byte) 0x82}, decoderUnderTest.getDecodedBytes());
+    }
+
+    /**
+     * Ensure that finishing rejects a final partial word that is only the start of a valid word.
+     */
+    @Test
+    public void finish_rejects_incomplete_final_word() {
+        // given
+        decoderUnderTest.acceptChars("topm");
+
+        // when
+        final TokenStatus status = decoderUnderTest.finish();
+
+        // then
+        assertEquals(TokenStatus.REJECTED, status);
+        assertEquals(0, decoderUnderTest.getPosition());
+    }
+
+    /**
+     * Ensure that the decoded bytes can grow beyond their initial capacity.
+     */
+    @Test
+    public void getDecodedBytes_returns_long_sentences() {
+        // given
+        final PGPWordList pgpWordList = new PGPWordList();
+        final byte[] expected = new byte[256];
+
+        // when
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (byte) i;
+            decoderUnderTest.acceptWord((i & 1) == 0 ? pgpWordList.getEvenWord(i) : pgpWordList.getOddWord(i));
+        }
+
+        // then
+        assertArrayEquals(expected, decoderUnderTest.getDecodedBytes());
+    }
+
+    /**
+     * Ensure that resetting discards decoded bytes and any partial word.
+     */
+    @Test
+    public void reset_starts_new_sentence() {
+        // given
+        decoderUnderTest.acceptWord("aardvark");
+        decoderUnderTest.acceptChars("xyz");
+
+        // when
+        decoderUnderTest.reset();
+        final TokenStatus status = decoderUnderTest.acceptWord("aardvark");
+
+        // then
+        assertEquals(TokenStatus.ACCEPTED, status);
+        assertEquals(0, decoderUnderTest.getRejectedCount());
+        assertArrayEquals(new byte[] {0x00}, decoderUnderTest.getDecodedBytes());
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests to ensure the correct operation of {@link PGPWordIndexCodec}.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordIndexCodecTest {
+
+    /** Instance of {@link PGPWordIndexCodec} to test. */
+    private final PGPWordIndexCodec codecUnderTest = new PGPWordIndexCodec();
+
+    /**
+     * Ensure that bytes at odd positions are given odd column indices.
+     */
+    @Test
+    public void bytesToIndices_sets_column_from_position() {
+        // when
+        final short[] indices = codecUnderTest.bytesToIndices(new byte[] {(byte) 0xE5, (byte) 0x82, 0x00});
+
+        // then
+        assertArrayEquals(new short[] {0xE5, 0x182, 0x00}, indices);
+    }
+
+    /**
+     * Ensure that indices convert back to the bytes they were created from.
+     */
+    @Test
+    public void indicesToBytes_reverses_bytesToIndices() {
+        // given
+        final byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (255 - i);
+        }
+
+        // when
+        final byte[] result = codecUnderTest.indicesToBytes(codecUnderTest.bytesToIndices(bytes));
+
+        // then
+        assertArrayEquals(bytes, result);
+    }
+
+    /**
+     * Ensure that an index outside the range of words is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void indicesToBytes_rejects_index_out_of_range() {
+        // when
+        codecUnderTest.indicesToBytes(new short[] {0x00, 0x200});
+    }
+
+    /**
+     * Ensure that words convert to their indices, ignoring case and extra whitespace.
+     */
+    @Test
+    public void wordsToIndices_converts_words() throws InvalidPGPWordException {
+        // when
+        final short[] indices = codecUnderTest.wordsToIndices("  TOPMOST Istanbul\n\tPluto vagabond ");
+
+        // then
+        assertArrayEquals(new short[] {0xE5, 0x182, 0x94, 0x1F2}, indices);
+    }
+
+    /**
+     * Ensure that a word from the wrong column is kept, and can be found afterwards.
+     */
+    @Test
+    public void wordsToIndices_keeps_parity_errors() throws InvalidPGPWordException {
+        // when
+        final short[] indices = codecUnderTest.wordsToIndices("topmost miser Pluto");
+
+        // then
+        assertArrayEquals(new short[] {0xE5, 0x82, 0x94}, indices);
+        assertEquals(1, codecUnderTest.getFirstParityError(indices));
+        assertEquals("topmost miser Pluto", codecUnderTest.indicesToWords(indices));
+    }
+
+    /**
+     * Ensure that an unrecognised word is reported with its position.
+     */
+    @Test
+    public void wordsToIndices_rejects_unrecognised_word() {
+        try {
+            // when
+            codecUnderTest.wordsToIndices("topmost nonsense");
+        } catch (final InvalidPGPWordException e) {
+            // then
+            assertEquals("PGP Word not recognised at position 1: nonsense", e.getMessage());
+            return;
+        }
+
+        throw new AssertionError("Expected InvalidPGPWordException");
+    }
+
+    /**
+     * Ensure that indices convert to the same words as the converter produces.
+     */
+    @Test
+    public void indicesToWords_matches_converter() {
+        // given
+        final byte[] bytes = {(byte) 0xE5, (byte) 0x82, (byte) 0x94, (byte) 0xF2};
+
+        // when
+        final String pgpWords = codecUnderTest.indicesToWords(codecUnderTest.bytesToIndices(bytes));
+
+        // then
+        assertEquals(new PGPWordListConverter().encode(bytes), pgpWords);
+        assertEquals(PGPWordIndexCodec.NO_POSITION,
+                codecUnderTest.getFirstParityError(codecUnderTest.bytesToIndices(bytes)));
+    }
+
+    /**
+     * Ensure that packed indices take 9 bits each and unpack to the same indices, for every count up to a few bytes.
+     */
+    @Test
+    public void pack_round_trips_through_unpack() {
+        // given
+        final Random random = new Random(42);
+
+        for (int count = 0; count <= 32; count++) {
+            final short[] indices = new short[count];
+            for (int i = 0; i < count; i++) {
+                indices[i] = (short) random.nextInt(PGPWordIndexCodec.INDEX_COUNT);
+            }
+
+            // when
+            final byte[] packed = PGPWordIndexCodec.pack(indices);
+
+            // then
+            assertEquals((count * 9 + 7) / 8, packed.length);
+            assertArrayEquals(indices, PGPWordIndexCodec.unpack(packed));
+        }
+    }
+
+    /**
+     * Ensure that indices are packed most significant bit first.
+     */
+    @Test
+    public void pack_writes_most_significant_bit_first() {
+        // when
+        final byte[] packed = PGPWordIndexCodec.pack(new short[] {0x1FF, 0x000, 0x101});
+
+        // then
+        assertArrayEquals(new byte[] {(byte) 0xFF, (byte) 0x80, 0x20, 0x20}, packed);
+    }
+
+    /**
+     * Ensure that a length that packing could never produce is rejected, rather than trailing bytes being dropped.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void unpack_rejects_invalid_length() {
+        // when
+        PGPWordIndexCodec.unpack(new byte[10]);
+    }
+
+    /**
+     * Ensure that packed indices with non-zero padding bits are rejected as corrupt.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void unpack_rejects_non_zero_padding() {
+        // given
+        final byte[] packed = PGPWordIndexCodec.pack(new short[] {0x1FF, 0x000, 0x101});
+        packed[packed.length - 1] |= 0x01;
+
+        // when
+        PGPWordIndexCodec.unpack(packed);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests to ensure the correct operation of {@link PGPWordInputStream}.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordInputStreamTest {
+
+    /**
+     * Ensure that words are decoded correctly, even when the reader returns a single character at a time.
+     *
+     * @throws IOException Exception thrown by stream
+     */
+    @Test
+    public void read_decodes_words_split_across_reads() throws IOException {
+        // given
+        final PGPWordInputStream stream = new PGPWordInputStream(oneCharAtATime("  Zulu\tyucatan\n ALLOW Camelot  "));
+
+        // when
+        final byte[] bytes = readAll(stream);
+
+        // then
+        assertArrayEquals(new byte[] {(byte) 0xFF, (byte) 0xFF, 0x0A, 0x21}, bytes);
+        assertEquals(4, stream.getPosition());
+    }
+
+    /**
+     * Ensure that a word at the wrong position causes an {@link IOException} caused by an
+     * {@link InvalidPGPWordException}.
+     */
+    @Test
+    public void read_throws_IOException_if_word_has_wrong_parity() {
+        // given
+        final PGPWordInputStream stream = new PGPWordInputStream(new StringReader("allow allow"));
+
+        // when
+        try {
+            readAll(stream);
+            fail("Expected IOException");
+        } catch (final IOException e) {
+            // then
+            assertTrue(e.getCause() instanceof InvalidPGPWordException);
+        }
+    }
+
+    /**
+     * Ensure that bytes decoded before an invalid word are returned, and the error is raised by the next read.
+     *
+     * @throws IOException Exception thrown by stream
+     */
+    @Test
+    public void read_returns_bytes_before_invalid_word_then_throws() throws IOException {
+        // given
+        final PGPWordInputStream stream = new PGPWordInputStream(new StringReader("Zulu Yucatan bogus"));
+        final byte[] buffer = new byte[8];
+
+        // when
+        final int count = stream.read(buffer, 0, buffer.length);
+
+        // then
+        assertEquals(2, count);
+        assertEquals((byte) 0xFF, buffer[0]);
+        assertEquals((byte) 0xFF, buffer[1]);
+        try {
+            stream.read(buffer, 0, buffer.length);
+            fail("Expected IOException");
+        } catch (final IOException e) {
+            assertEquals("PGP Word not recognised at position 2: bogus", e.getMessage());
+            assertTrue(e.getCause() instanceof InvalidPGPWordException);
+        }
+    }
+
+    /**
+     * Ensure that input longer than any word is rejected, rather than buffered.
+     */
+    @Test
+    public void read_throws_IOException_if_word_is_too_long() {
+        // given
+        final PGPWordInputStream stream = new PGPWordInputStream(new StringReader("aardvarkaardvarkaardvark"));
+
+        // when
+        try {
+            stream.read();
+            fail("Expected IOException");
+        } catch (final IOException e) {
+            // then
+            assertTrue(e.getCause() instanceof InvalidPGPWordException);
+        }
+    }
+
+    /**
+     * @param text Text to read
+     * @return Reader that returns at most one character per read
+     */
+    private static Reader oneCharAtATime(final String text) {
+        return new FilterReader(new StringReader(text)) {
+            @Override
+            public int read(final char[] buffer, final int offset, final int length) throws IOException {
+                return super.read(buffer, offset, Math.min(length, 1));
+            }
+        };
+    }
+
+    /**
+     * @param stream Stream to read
+     * @return All bytes in the stream
+     *
+     * @throws IOException Exception thrown by stream
+     */
+    private static byte[] readAll(final PGPWordInputStream stream) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[3];
+        int count;
+        while ((count = stream.read(buffer, 0, buffer.length)) >= 0) {
+            bytes.write(buffer, 0, count);
+        }
+
+        return bytes.toByteArray();
+    }
+}
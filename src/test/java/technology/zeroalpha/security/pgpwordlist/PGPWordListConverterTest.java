@@ -25,7 +25,14 @@ package technology.zeroalpha.security.pgpwordlist;
 
 import org.junit.Test;
 
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Unit tests to ensure the correct operation of {@link PGPWordListConverter}.
@@ -235,4 +242,573 @@ public class PGPWordListConverterTest {
 
         // then
     }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#encode(byte[])} alternate between even and odd words.
+     */
+    @Test
+    public void encode_alternates_even_and_odd_words() {
+        // given
+        final byte[] bytes = {(byte) 0xFF, (byte) 0xFF, 0x0A, 0x21};
+
+        // when
+        final String words = converterUnderTest.encode(bytes);
+
+        // then
+        assertEquals("Zulu Yucatan allow Camelot", words);
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#encode(byte[], int, int, StringBuilder, CharSequence)} treat
+     * the first byte of the range as even, and use the supplied separator.
+     */
+    @Test
+    public void encode_range_starts_with_even_word_and_uses_separator() {
+        // given
+        final byte[] bytes = {0x00, 0x0A, 0x21, 0x00};
+        final StringBuilder builder = new StringBuilder("words:");
+
+        // when
+        converterUnderTest.encode(bytes, 1, 2, builder, "-");
+
+        // then
+        assertEquals("words:allow-Camelot", builder.toString());
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#encode(byte[])} return an empty string for an empty array.
+     */
+    @Test
+    public void encode_returns_empty_string_for_empty_array() {
+        // given
+
+        // when
+        final String words = converterUnderTest.encode(new byte[0]);
+
+        // then
+        assertEquals("", words);
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#encode(byte[], int, int)} throw an
+     * {@link IndexOutOfBoundsException} if the range does not fit in the array.
+     */
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void encode_throws_IndexOutOfBoundsException_if_range_is_invalid() {
+        // given
+
+        // when
+        converterUnderTest.encode(new byte[4], 2, 3);
+
+        // then
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#decode(CharSequence)} return the bytes represented by the
+     * words, ignoring case and surrounding whitespace.
+     *
+     * @throws InvalidPGPWordException Exception thrown by method
+     */
+    @Test
+    public void decode_returns_correct_bytes() throws InvalidPGPWordException {
+        // given
+
+        // when
+        final byte[] bytes = converterUnderTest.decode("  zulu YUCATAN\tallow   Camelot ");
+
+        // then
+        assertArrayEquals(new byte[] {(byte) 0xFF, (byte) 0xFF, 0x0A, 0x21}, bytes);
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#decode(CharSequence, byte[], int)} write the bytes into the
+     * supplied array at the given offset.
+     *
+     * @throws InvalidPGPWordException Exception thrown by method
+     */
+    @Test
+    public void decode_into_array_writes_bytes_at_offset() throws InvalidPGPWordException {
+        // given
+        final byte[] output = new byte[4];
+
+        // when
+        final int count = converterUnderTest.decode("allow Camelot", output, 1);
+
+        // then
+        assertEquals(2, count);
+        assertArrayEquals(new byte[] {0x00, 0x0A, 0x21, 0x00}, output);
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#decode(CharSequence)} throw an {@link InvalidPGPWordException}
+     * if an odd word appears at an even position.
+     *
+     * @throws InvalidPGPWordException Exception thrown by method
+     */
+    @Test (expected = InvalidPGPWordException.class)
+    public void decode_throws_InvalidPGPWordException_if_word_has_wrong_parity() throws InvalidPGPWordException {
+        // given
+
+        // when
+        converterUnderTest.decode("Camelot allow");
+
+        // then
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#decode(CharSequence)} throw an {@link InvalidPGPWordException}
+     * if a word is not recognised.
+     *
+     * @throws InvalidPGPWordException Exception thrown by method
+     */
+    @Test (expected = InvalidPGPWordException.class)
+    public void decode_throws_InvalidPGPWordException_if_word_is_not_recognised() throws InvalidPGPWordException {
+        // given
+
+        // when
+        converterUnderTest.decode("allow foo");
+
+        // then
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#tryDecode(CharSequence)} return a successful result holding the
+     * decoded bytes for valid input.
+     */
+    @Test
+    public void tryDecode_returns_bytes_for_valid_words() {
+        // given
+
+        // when
+        final ConversionResult<byte[]> result = converterUnderTest.tryDecode("allow Camelot");
+
+        // then
+        assertTrue(result.isSuccess());
+        assertArrayEquals(new byte[] {0x0A, 0x21}, result.getValue());
+        assertEquals(ConversionResult.NO_POSITION, result.getErrorPosition());
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#tryDecode(CharSequence)} report the position and reason of the
+     * first invalid word rather than throwing.
+     */
+    @Test
+    public void tryDecode_reports_position_of_invalid_word() {
+        // given
+
+        // when
+        final ConversionResult<byte[]> unrecognised = converterUnderTest.tryDecode("allow Camelot foo");
+        final ConversionResult<byte[]> wrongParity = converterUnderTest.tryDecode("allow Camelot Camelot");
+
+        // then
+        assertFalse(unrecognised.isSuccess());
+        assertNull(unrecognised.getValue());
+        assertEquals(ConversionError.UNRECOGNISED_WORD, unrecognised.getError());
+        assertEquals(2, unrecognised.getErrorPosition());
+        assertEquals(ConversionError.WRONG_PARITY, wrongParity.getError());
+        assertEquals(2, wrongParity.getErrorPosition());
+    }
+
+    /**
+     * Ensure that decoding into an array that is too small, or at a negative offset, throws an
+     * {@link IndexOutOfBoundsException} before anything is written.
+     *
+     * @throws InvalidPGPWordException Exception thrown by converter
+     */
+    @Test
+    public void decode_into_array_checks_range_before_writing() throws InvalidPGPWordException {
+        // given
+        final byte[] output = new byte[3];
+
+        // when
+        try {
+            converterUnderTest.decode("Zulu Yucatan allow Camelot", output, 0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (final IndexOutOfBoundsException e) {
+            // then
+            assertEquals("Range [0, 4) is out of bounds for array of length 3", e.getMessage());
+        }
+        try {
+            converterUnderTest.decode("Zulu", output, -1);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (final IndexOutOfBoundsException e) {
+            assertEquals("Range [-1, 0) is out of bounds for array of length 3", e.getMessage());
+        }
+        assertArrayEquals(new byte[3], output);
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#tryEncode(CharSequence)} convert each pair of hexadecimal
+     * digits into alternating even and odd words.
+     */
+    @Test
+    public void tryEncode_returns_words_for_valid_hex() {
+        // given
+
+        // when
+        final ConversionResult<String> result = converterUnderTest.tryEncode("ffFF0a21");
+
+        // then
+        assertTrue(result.isSuccess());
+        assertEquals("Zulu Yucatan allow Camelot", result.getValue());
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#tryEncode(CharSequence)} accept the same separators as
+     * {@link PGPWordListConverter#hexToWords(CharSequence)}.
+     *
+     * @throws InvalidHexValueException Exception thrown by converter
+     */
+    @Test
+    public void tryEncode_ignores_separators_like_hexToWords() throws InvalidHexValueException {
+        // given
+
+        // when
+        final ConversionResult<String> result = converterUnderTest.tryEncode("E5:82 94F2");
+        final ConversionResult<String> splitByte = converterUnderTest.tryEncode("E5:8 2");
+
+        // then
+        assertTrue(result.isSuccess());
+        assertEquals(converterUnderTest.hexToWords("E5:82 94F2"), result.getValue());
+        assertEquals(ConversionError.INVALID_HEX_VALUE, splitByte.getError());
+        assertEquals(4, splitByte.getErrorPosition());
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#tryEncode(CharSequence)} report the index of an invalid
+     * character, or the end of the string if a digit is missing.
+     */
+    @Test
+    public void tryEncode_reports_position_of_invalid_hex() {
+        // given
+
+        // when
+        final ConversionResult<String> invalidDigit = converterUnderTest.tryEncode("0A2G");
+        final ConversionResult<String> oddLength = converterUnderTest.tryEncode("0A2");
+        final ConversionResult<String> nullInput = converterUnderTest.tryEncode(null);
+
+        // then
+        assertEquals(ConversionError.INVALID_HEX_VALUE, invalidDigit.getError());
+        assertEquals(3, invalidDigit.getErrorPosition());
+        assertEquals(ConversionError.INVALID_HEX_VALUE, oddLength.getError());
+        assertEquals(3, oddLength.getErrorPosition());
+        assertEquals(ConversionError.NULL_INPUT, nullInput.getError());
+    }
+
+    /**
+     * Ensure that a converter created without stack traces throws exceptions that have no stack trace.
+     */
+    @Test
+    public void converter_without_stack_traces_throws_stackless_exceptions() {
+        // given
+        final PGPWordListConverter stacklessConverter = new PGPWordListConverter(false);
+
+        // when
+        InvalidPGPWordException wordException = null;
+        InvalidHexValueException hexException = null;
+        try {
+            stacklessConverter.decode("foo");
+        } catch (final InvalidPGPWordException e) {
+            wordException = e;
+        }
+        try {
+            stacklessConverter.getEvenWordForHexValue("GG");
+        } catch (final InvalidHexValueException e) {
+            hexException = e;
+        }
+
+        // then
+        assertEquals(0, wordException.getStackTrace().length);
+        assertEquals(0, hexException.getStackTrace().length);
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#encodeParallel(byte[])} and
+     * {@link PGPWordListConverter#decodeParallel(CharSequence)} give the same results as sequential conversion for
+     * inputs large enough to be split.
+     *
+     * @throws InvalidPGPWordException Exception thrown by method
+     */
+    @Test
+    public void encodeParallel_and_decodeParallel_match_sequential_conversion() throws InvalidPGPWordException {
+        // given
+        final byte[] bytes = new byte[(1 << 18) + 1];
+        new Random(42).nextBytes(bytes);
+
+        // when
+        final String words = converterUnderTest.encodeParallel(bytes);
+        final byte[] decoded = converterUnderTest.decodeParallel(words);
+
+        // then
+        assertEquals(converterUnderTest.encode(bytes), words);
+        assertArrayEquals(bytes, decoded);
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#decodeParallel(CharSequence)} report a word at the wrong
+     * position, even when it is the first word of a segment decoded in parallel.
+     */
+    @Test
+    public void decodeParallel_throws_InvalidPGPWordException_if_word_has_wrong_parity() {
+        // given
+        final String[] words = converterUnderTest.encode(new byte[1 << 18]).split(" ");
+        final int position = words.length / 2 + 1;
+        words[position] = "aardvark"; // Even word for 0x00, at an odd position
+        final String invalid = String.join(" ", words);
+
+        // when
+        try {
+            converterUnderTest.decodeParallel(invalid);
+            fail("Expected InvalidPGPWordException");
+        } catch (final InvalidPGPWordException e) {
+            // then
+            assertTrue(e.getMessage().contains("position " + position));
+        }
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#hexToWords(CharSequence)} convert a whole fingerprint, ignoring
+     * the spaces and colons used by GPG.
+     *
+     * @throws InvalidHexValueException Exception thrown by converter
+     */
+    @Test
+    public void hexToWords_converts_fingerprint_with_separators() throws InvalidHexValueException {
+        // given
+
+        // when
+        final String spaced = converterUnderTest.hexToWords("0A21 fFfF");
+        final String colons = converterUnderTest.hexToWords("0A:21:FF:FF");
+
+        // then
+        assertEquals("allow Camelot Zulu Yucatan", spaced);
+        assertEquals(spaced, colons);
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#hexToWords(CharSequence)} throw an
+     * {@link InvalidHexValueException} if a separator splits a byte.
+     *
+     * @throws InvalidHexValueException Exception thrown by converter
+     */
+    @Test (expected = InvalidHexValueException.class)
+    public void hexToWords_throws_InvalidHexValueException_if_byte_is_split() throws InvalidHexValueException {
+        // given
+
+        // when
+        converterUnderTest.hexToWords("0A2 1");
+
+        // then
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#hexToWords(CharSequence)} throw an
+     * {@link InvalidHexValueException} if the string contains a character that is not a hexadecimal digit.
+     *
+     * @throws InvalidHexValueException Exception thrown by converter
+     */
+    @Test (expected = InvalidHexValueException.class)
+    public void hexToWords_throws_InvalidHexValueException_if_digit_is_invalid() throws InvalidHexValueException {
+        // given
+
+        // when
+        converterUnderTest.hexToWords("0AG1");
+
+        // then
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#hexToWords(CharSequence)} report a missing final digit, rather
+     * than an index past the end of the string.
+     */
+    @Test
+    public void hexToWords_reports_missing_final_digit() {
+        // given
+
+        // when
+        try {
+            converterUnderTest.hexToWords("0A:2");
+            fail("Expected InvalidHexValueException");
+        } catch (final InvalidHexValueException e) {
+            // then
+            assertEquals("Cannot convert to PGP Words - final byte is missing its second hexadecimal digit.",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#wordsToHex(CharSequence)} give the upper case hexadecimal
+     * string for a sentence.
+     *
+     * @throws InvalidPGPWordException Exception thrown by converter
+     */
+    @Test
+    public void wordsToHex_returns_correct_hex_string() throws InvalidPGPWordException {
+        // given
+
+        // when
+        final String hex = converterUnderTest.wordsToHex("allow Camelot Zulu Yucatan");
+
+        // then
+        assertEquals("0A21FFFF", hex);
+    }
+
+    /**
+     * Ensure that a converter with a listener reports each conversion once, with the bytes processed, and reports
+     * invalid hexadecimal values, unrecognised words and words at the wrong position separately.
+     */
+    @Test
+    public void listener_is_told_about_every_conversion() {
+        // given
+        final ConversionStatistics statistics = new ConversionStatistics();
+        final PGPWordListConverter converter = new PGPWordListConverter(false, statistics);
+
+        // when
+        final String words = converter.encode(new byte[] {0x0A, 0x21, (byte) 0xFF});
+        converter.tryDecode(words);
+        converter.tryDecode("allow allow");
+        converter.tryDecode("allow banana");
+        converter.tryEncode("0G");
+
+        // then
+        assertEquals(2, statistics.getCallCount(ConversionOperation.ENCODE));
+        assertEquals(3, statistics.getByteCount(ConversionOperation.ENCODE));
+        assertEquals(3, statistics.getCallCount(ConversionOperation.DECODE));
+        assertEquals(3, statistics.getByteCount(ConversionOperation.DECODE));
+        assertEquals(1, statistics.getErrorCount(ConversionError.INVALID_HEX_VALUE));
+        assertEquals(1, statistics.getErrorCount(ConversionError.UNRECOGNISED_WORD));
+        assertEquals(1, statistics.getErrorCount(ConversionError.WRONG_PARITY));
+    }
+
+    /**
+     * Ensure that conversions which delegate to one another are only reported once, including when they throw.
+     *
+     * @throws InvalidPGPWordException Exception thrown by converter
+     */
+    @Test
+    public void listener_is_told_about_delegating_conversions_once() throws InvalidPGPWordException {
+        // given
+        final ConversionStatistics statistics = new ConversionStatistics();
+        final PGPWordListConverter converter = new PGPWordListConverter(false, statistics);
+
+        // when
+        converter.wordsToHex("allow Camelot");
+        try {
+            converter.getEvenWordForHexValue("");
+            fail("Expected InvalidHexValueException");
+        } catch (final InvalidHexValueException e) {
+            // then
+            assertEquals(1, statistics.getCallCount(ConversionOperation.DECODE));
+            assertEquals(1, statistics.getFailureCount(ConversionOperation.HEX_TO_WORD));
+            assertEquals(1, statistics.getErrorCount(ConversionError.INVALID_HEX_VALUE));
+        }
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#verify(byte[], CharSequence)} match a correct sentence,
+     * regardless of case and spacing.
+     */
+    @Test
+    public void verify_matches_correct_sentence() {
+        // given
+        final byte[] expected = {(byte) 0xFF, (byte) 0xFF, 0x0A, 0x21};
+
+        // when
+        final VerificationResult result = converterUnderTest.verify(expected, " zulu  YUCATAN allow\tCamelot");
+
+        // then
+        assertTrue(result.isMatch());
+        assertEquals(VerificationResult.NO_POSITION, result.getFirstMismatchPosition());
+        assertEquals(4, result.getWordCount());
+    }
+
+    /**
+     * Ensure that a failed verification is reported to the listener as a failure, with the reason for the first
+     * mismatch.
+     */
+    @Test
+    public void listener_is_told_about_failed_verifications() {
+        // given
+        final ConversionStatistics statistics = new ConversionStatistics();
+        final PGPWordListConverter converter = new PGPWordListConverter(true, statistics);
+        final byte[] expected = {(byte) 0xFF, (byte) 0xFF, 0x0A, 0x21};
+
+        // when
+        converter.verify(expected, "Zulu Yucatan allow Camelot");
+        converter.verify(expected, "Zulu Yucatan aardvark Camelot");
+        converter.verify(expected, "Zulu Yucatan bogus Camelot");
+        converter.verify(expected, "Zulu Yucatan allow Zulu");
+        converter.verify(expected, "Zulu Yucatan aardvark bogus");
+
+        // then
+        assertEquals(1, statistics.getSuccessCount(ConversionOperation.VERIFY));
+        assertEquals(4, statistics.getFailureCount(ConversionOperation.VERIFY));
+        assertEquals(2, statistics.getErrorCount(ConversionError.MISMATCH));
+        assertEquals(1, statistics.getErrorCount(ConversionError.UNRECOGNISED_WORD));
+        assertEquals(1, statistics.getErrorCount(ConversionError.WRONG_PARITY));
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#verify(byte[], CharSequence)} report the first mismatch, and
+     * count every unrecognised word and word at the wrong position across the whole sentence.
+     */
+    @Test
+    public void verify_reports_first_mismatch_and_error_counts() {
+        // given
+        final byte[] expected = {(byte) 0xFF, (byte) 0xFF, 0x0A, 0x21};
+
+        // when
+        final VerificationResult wrongWord = converterUnderTest.verify(expected, "Zulu Yucatan aardvark Camelot");
+        final VerificationResult errors = converterUnderTest.verify(expected, "Zulu Zulu allow banana");
+        final VerificationResult tooShort = converterUnderTest.verify(expected, "Zulu Yucatan");
+        final VerificationResult tooLong = converterUnderTest.verify(expected, "Zulu Yucatan allow Camelot Zulu");
+
+        // then
+        assertFalse(wrongWord.isMatch());
+        assertEquals(2, wrongWord.getFirstMismatchPosition());
+        assertEquals(0, wrongWord.getParityErrorCount());
+        assertEquals(1, errors.getFirstMismatchPosition());
+        assertEquals(1, errors.getParityErrorCount());
+        assertEquals(1, errors.getUnrecognisedWordCount());
+        assertEquals(2, tooShort.getFirstMismatchPosition());
+        assertEquals(4, tooLong.getFirstMismatchPosition());
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#getHexValueForPGPWord(String, HexStyle)} keep the leading zero
+     * and use the requested case.
+     *
+     * @throws InvalidPGPWordException Exception thrown by converter
+     */
+    @Test
+    public void getHexValueForPGPWord_returns_value_in_style() throws InvalidPGPWordException {
+        // given
+
+        // when
+        final String unpadded = converterUnderTest.getHexValueForPGPWord("allow");
+        final String fixedWidth = converterUnderTest.getHexValueForPGPWord("allow", HexStyle.UPPER_CASE_FIXED_WIDTH);
+        final String lowerCase = converterUnderTest.getHexValueForPGPWord("Zulu", HexStyle.LOWER_CASE);
+
+        // then
+        assertEquals("A", unpadded);
+        assertEquals("0A", fixedWidth);
+        assertEquals("ff", lowerCase);
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordListConverter#wordsToHex(CharSequence, HexStyle)} use the requested case,
+     * with two digits for every byte.
+     *
+     * @throws InvalidPGPWordException Exception thrown by converter
+     */
+    @Test
+    public void wordsToHex_returns_hex_string_in_style() throws InvalidPGPWordException {
+        // given
+
+        // when
+        final String hex = converterUnderTest.wordsToHex("allow Camelot Zulu Yucatan", HexStyle.LOWER_CASE);
+
+        // then
+        assertEquals("0a21ffff", hex);
+    }
 }
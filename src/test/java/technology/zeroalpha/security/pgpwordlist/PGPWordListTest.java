@@ -25,6 +25,12 @@ package technology.zeroalpha.security.pgpwordlist;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
@@ -125,4 +131,199 @@ public class PGPWordListTest {
         // then
         assertNull(hexValue);
     }
+
+    /**
+     * Ensure that calls to {@link PGPWordList#getHexValueByEvenPGPWord(String)} only recognise even words.
+     */
+    @Test
+    public void getHexValueByEvenPGPWord_only_recognises_even_words() {
+        // given
+
+        // when
+        final Integer evenValue = pgpWordList.getHexValueByEvenPGPWord("Edict");
+        final Integer oddValue = pgpWordList.getHexValueByEvenPGPWord("equipment");
+
+        // then
+        assertEquals(Integer.valueOf(0x55), evenValue);
+        assertNull(oddValue);
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordList#getHexValueByOddPGPWord(String)} only recognise odd words.
+     */
+    @Test
+    public void getHexValueByOddPGPWord_only_recognises_odd_words() {
+        // given
+
+        // when
+        final Integer oddValue = pgpWordList.getHexValueByOddPGPWord("Equipment");
+        final Integer evenValue = pgpWordList.getHexValueByOddPGPWord("edict");
+
+        // then
+        assertEquals(Integer.valueOf(0x55), oddValue);
+        assertNull(evenValue);
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordList#lookupHexValue(String)} return the same value as the reverse lookup of
+     * every word in the list.
+     */
+    @Test
+    public void lookupHexValue_returns_hex_value_for_every_word() {
+        // given
+
+        for (int hexValue = 0x00; hexValue <= 0xFF; hexValue++) {
+            // when
+            final int evenValue = pgpWordList.lookupHexValue(pgpWordList.getEvenWord(hexValue));
+            final int oddValue = pgpWordList.lookupHexValue(pgpWordList.getOddWord(hexValue));
+
+            // then
+            assertEquals(hexValue, evenValue);
+            assertEquals(hexValue, oddValue);
+        }
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordList#lookupHexValue(String)} return {@link PGPWordList#NOT_FOUND} for
+     * unrecognised words and null.
+     */
+    @Test
+    public void lookupHexValue_returns_NOT_FOUND_if_word_is_not_recognised() {
+        // given
+
+        // when
+        final int unknownValue = pgpWordList.lookupHexValue("foobar");
+        final int nullValue = pgpWordList.lookupHexValue(null);
+
+        // then
+        assertEquals(PGPWordList.NOT_FOUND, unknownValue);
+        assertEquals(PGPWordList.NOT_FOUND, nullValue);
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordList#lookupEvenHexValue(String)} and
+     * {@link PGPWordList#lookupOddHexValue(String)} only recognise words from their own column.
+     */
+    @Test
+    public void lookupEvenHexValue_and_lookupOddHexValue_only_recognise_own_column() {
+        // given
+
+        // when
+        final int evenValue = pgpWordList.lookupEvenHexValue("ZULU");
+        final int oddAsEvenValue = pgpWordList.lookupEvenHexValue("Yucatan");
+        final int oddValue = pgpWordList.lookupOddHexValue("yucatan");
+        final int evenAsOddValue = pgpWordList.lookupOddHexValue("Zulu");
+
+        // then
+        assertEquals(0xFF, evenValue);
+        assertEquals(PGPWordList.NOT_FOUND, oddAsEvenValue);
+        assertEquals(0xFF, oddValue);
+        assertEquals(PGPWordList.NOT_FOUND, evenAsOddValue);
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordList#getPGPWordsForHexValue(int)} return null if the provided hexadecimal
+     * value is negative.
+     */
+    @Test
+    public void getPGPWordsForHexValue_returns_null_if_hex_value_is_negative() {
+        // given
+
+        // when
+        final PGPWords pgpWords = pgpWordList.getPGPWordsForHexValue(-1);
+
+        // then
+        assertNull(pgpWords);
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordList#lookupWord(CharSequence, int, int)} find a word within a larger sequence,
+     * ignoring case, and flag odd words.
+     */
+    @Test
+    public void lookupWord_finds_word_in_slice_and_flags_odd_words() {
+        // given
+        final String sentence = "EDICT equipment";
+
+        // when
+        final int evenValue = pgpWordList.lookupWord(sentence, 0, 5);
+        final int oddValue = pgpWordList.lookupWord(sentence, 6, 15);
+
+        // then
+        assertEquals(0x55, evenValue);
+        assertEquals(0x55 | PGPWordList.ODD_WORD_FLAG, oddValue);
+    }
+
+    /**
+     * Ensure that calls to {@link PGPWordList#lookupWord(char[], int, int)} return {@link PGPWordList#NOT_FOUND} if
+     * the slice only partially matches a word.
+     */
+    @Test
+    public void lookupWord_returns_NOT_FOUND_for_partial_word() {
+        // given
+        final char[] chars = "aardvarks".toCharArray();
+
+        // when
+        final int prefixValue = pgpWordList.lookupWord(chars, 0, 7);
+        final int longerValue = pgpWordList.lookupWord(chars, 0, 9);
+        final int exactValue = pgpWordList.lookupWord(chars, 0, 8);
+
+        // then
+        assertEquals(PGPWordList.NOT_FOUND, prefixValue);
+        assertEquals(PGPWordList.NOT_FOUND, longerValue);
+        assertEquals(0x00, exactValue);
+    }
+
+    /**
+     * Ensure that {@link PGPWordList} instances created concurrently all see the complete word list.
+     *
+     * @throws Exception If a task fails or is interrupted
+     */
+    @Test
+    public void concurrently_created_instances_see_complete_word_list() throws Exception {
+        // given
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<Future<Integer>> results = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(() -> {
+                    final PGPWordList list = new PGPWordList();
+                    int recognised = 0;
+                    for (int hexValue = 0x00; hexValue <= 0xFF; hexValue++) {
+                        if (list.lookupEvenHexValue(list.getEvenWord(hexValue)) == hexValue
+                                && list.lookupOddHexValue(list.getOddWord(hexValue)) == hexValue) {
+                            recognised++;
+                        }
+                    }
+                    return recognised;
+                }));
+            }
+
+            // then
+            for (final Future<Integer> result : results) {
+                assertEquals(Integer.valueOf(256), result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Ensure that {@link PGPWordList#getWord(int, long)} returns the even word at even positions and the odd word at
+     * odd positions.
+     */
+    @Test
+    public void getWord_selects_word_by_position() {
+        // given
+
+        // when
+        final String even = pgpWordList.getWord(0x55, 4);
+        final String odd = pgpWordList.getWord(0x55, 5);
+
+        // then
+        assertEquals("edict", even);
+        assertEquals("equipment", odd);
+    }
 }
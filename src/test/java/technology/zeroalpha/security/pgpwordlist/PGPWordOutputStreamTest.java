@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests to ensure the correct operation of {@link PGPWordOutputStream}.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordOutputStreamTest {
+
+    /**
+     * Ensure that bytes written across several calls alternate between even and odd words as if written at once.
+     *
+     * @throws IOException Exception thrown by stream
+     */
+    @Test
+    public void write_keeps_parity_across_calls() throws IOException {
+        // given
+        final StringWriter writer = new StringWriter();
+        final PGPWordOutputStream stream = new PGPWordOutputStream(writer);
+
+        // when
+        stream.write(0xFF);
+        stream.write(new byte[] {0x00, (byte) 0xFF, 0x0A}, 1, 2);
+        stream.write(new byte[] {0x21});
+        stream.close();
+
+        // then
+        assertEquals("Zulu Yucatan allow Camelot", writer.toString());
+        assertEquals(4, stream.getPosition());
+    }
+
+    /**
+     * Ensure that the supplied separator is placed between words.
+     *
+     * @throws IOException Exception thrown by stream
+     */
+    @Test
+    public void write_uses_separator() throws IOException {
+        // given
+        final StringWriter writer = new StringWriter();
+        final PGPWordOutputStream stream = new PGPWordOutputStream(writer, "\n");
+
+        // when
+        stream.write(new byte[] {0x0A, 0x21});
+        stream.flush();
+
+        // then
+        assertEquals("allow\nCamelot", writer.toString());
+    }
+}
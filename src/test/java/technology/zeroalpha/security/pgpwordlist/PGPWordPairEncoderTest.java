@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests to ensure the correct operation of {@link PGPWordPairEncoder}.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordPairEncoderTest {
+
+    /** Instance of {@link PGPWordPairEncoder} to test. */
+    private final PGPWordPairEncoder encoderUnderTest = new PGPWordPairEncoder();
+
+    /**
+     * Ensure that encoding pairs of bytes gives the same words as {@link PGPWordListConverter}, for both even and odd
+     * numbers of bytes.
+     */
+    @Test
+    public void encode_matches_converter() {
+        // given
+        final PGPWordListConverter converter = new PGPWordListConverter();
+        final byte[] bytes = new byte[1001];
+        new Random(42).nextBytes(bytes);
+
+        // when
+        final String oddLength = encoderUnderTest.encode(bytes);
+        final StringBuilder evenLength = new StringBuilder();
+        encoderUnderTest.encode(bytes, 1, 1000, evenLength);
+
+        // then
+        assertEquals(converter.encode(bytes), oddLength);
+        assertEquals(converter.encode(bytes, 1, 1000), evenLength.toString());
+    }
+
+    /**
+     * Ensure that encoding into a character array uses the supplied separator and returns the number of characters
+     * written.
+     */
+    @Test
+    public void encode_into_array_uses_separator() {
+        // given
+        final PGPWordPairEncoder encoder = new PGPWordPairEncoder("-");
+        final char[] output = new char[64];
+
+        // when
+        final int length = encoder.encode(new byte[] {(byte) 0xFF, (byte) 0xFF, 0x0A}, 0, 3, output, 2);
+
+        // then
+        assertEquals("Zulu-Yucatan-allow", new String(output, 2, length));
+    }
+
+    /**
+     * Ensure that the reported footprint covers the precomputed chunks.
+     */
+    @Test
+    public void getFootprintBytes_reports_table_size() {
+        // given
+
+        // when
+        final long footprint = encoderUnderTest.getFootprintBytes();
+
+        // then
+        assertTrue(footprint > 65536 * 2 * 10);
+    }
+}
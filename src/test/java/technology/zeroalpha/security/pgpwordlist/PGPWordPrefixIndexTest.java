@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests to ensure the correct operation of {@link PGPWordPrefixIndex}.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordPrefixIndexTest {
+
+    /** Instance of {@link PGPWordPrefixIndex} to test. */
+    private final PGPWordPrefixIndex indexUnderTest = new PGPWordPrefixIndex();
+
+    /**
+     * Ensure that every even word starting with a prefix is matched, in alphabetical order, ignoring case.
+     */
+    @Test
+    public void matchEven_returns_words_starting_with_prefix() {
+        // given
+        final PGPWordList pgpWordList = new PGPWordList();
+        final long expected = IntStream.range(0, 256)
+                .filter(hexValue -> pgpWordList.getEvenWord(hexValue).toLowerCase().startsWith("a"))
+                .count();
+
+        // when
+        final PGPWordPrefixMatches matches = indexUnderTest.matchEven("A");
+
+        // then
+        assertEquals(expected, matches.size());
+        assertEquals("aardvark", matches.get(0));
+        assertEquals(0x00, matches.getHexValue(0));
+        for (int i = 1; i < matches.size(); i++) {
+            assertTrue(matches.get(i - 1).compareToIgnoreCase(matches.get(i)) < 0);
+        }
+        assertFalse(matches.isUnique());
+    }
+
+    /**
+     * Ensure that a prefix identifying a single word is reported as unique, and only matches the column for the
+     * position.
+     */
+    @Test
+    public void match_reports_unique_prefix_for_position() {
+        // given
+
+        // when
+        final PGPWordPrefixMatches odd = indexUnderTest.match("yuc", 1);
+        final PGPWordPrefixMatches even = indexUnderTest.match("yuc", 0);
+
+        // then
+        assertTrue(odd.isUnique());
+        assertEquals("Yucatan", odd.get(0));
+        assertEquals(0xFF, odd.getHexValue(0));
+        assertTrue(even.isEmpty());
+    }
+
+    /**
+     * Ensure that an empty prefix matches the whole column, and that a prefix longer than every word matches nothing.
+     */
+    @Test
+    public void matchOdd_handles_empty_and_long_prefixes() {
+        // given
+
+        // when
+        final PGPWordPrefixMatches all = indexUnderTest.matchOdd("");
+        final PGPWordPrefixMatches none = indexUnderTest.matchOdd("Yucatanx");
+
+        // then
+        assertEquals(256, all.size());
+        assertEquals(0, none.size());
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests to ensure the correct operation of {@link PGPWordSuggester}.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordSuggesterTest {
+
+    /** Instance of {@link PGPWordSuggester} to test. */
+    private final PGPWordSuggester suggesterUnderTest = new PGPWordSuggester();
+
+    /**
+     * Ensure that a word with a missing letter is corrected to the closest even word.
+     */
+    @Test
+    public void suggest_corrects_deleted_letter() {
+        // given
+
+        // when
+        final List<PGPWordSuggestion> suggestions = suggesterUnderTest.suggest("aardvak", 0);
+
+        // then
+        assertEquals("aardvark", suggestions.get(0).getWord());
+        assertEquals(0x00, suggestions.get(0).getHexValue());
+        assertEquals(1, suggestions.get(0).getDistance());
+    }
+
+    /**
+     * Ensure that a misspelt odd word is corrected at an odd position, but not at an even position.
+     */
+    @Test
+    public void suggest_only_returns_words_from_column_for_position() {
+        // given
+
+        // when
+        final List<PGPWordSuggestion> odd = suggesterUnderTest.suggest("Yukatan", 1);
+        final List<PGPWordSuggestion> even = suggesterUnderTest.suggest("Yukatan", 2);
+
+        // then
+        assertEquals("Yucatan", odd.get(0).getWord());
+        assertEquals(0xFF, odd.get(0).getHexValue());
+        assertTrue(even.stream().noneMatch(suggestion -> suggestion.getWord().equals("Yucatan")));
+    }
+
+    /**
+     * Ensure that swapped letters count as a single edit.
+     */
+    @Test
+    public void suggest_counts_transposition_as_one_edit() {
+        // given
+
+        // when
+        final List<PGPWordSuggestion> suggestions = suggesterUnderTest.suggest("CMAELOT", 1);
+
+        // then
+        assertEquals("Camelot", suggestions.get(0).getWord());
+        assertEquals(1, suggestions.get(0).getDistance());
+    }
+
+    /**
+     * Ensure that a recognised word is its own suggestion, and that words far from every PGP Word have none.
+     */
+    @Test
+    public void suggest_returns_exact_match_or_nothing() {
+        // given
+
+        // when
+        final List<PGPWordSuggestion> exact = suggesterUnderTest.suggest(" Zulu ", 0);
+        final List<PGPWordSuggestion> none = suggesterUnderTest.suggest("xxxxxxxx", 0);
+
+        // then
+        assertEquals(1, exact.size());
+        assertEquals(0, exact.get(0).getDistance());
+        assertEquals(0xFF, exact.get(0).getHexValue());
+        assertTrue(none.isEmpty());
+    }
+
+    /**
+     * Ensure that every lookup is reported to the listener, with lookups finding no suggestions reported as failures.
+     */
+    @Test
+    public void suggest_reports_lookups_to_listener() {
+        // given
+        final ConversionStatistics statistics = new ConversionStatistics();
+        final PGPWordSuggester suggester = new PGPWordSuggester(statistics);
+
+        // when
+        suggester.suggest("aardvak", 0);
+        suggester.suggest("xxxxxxxx", 0);
+
+        // then
+        assertEquals(2, statistics.getCallCount(ConversionOperation.SUGGEST));
+        assertEquals(1, statistics.getSuccessCount(ConversionOperation.SUGGEST));
+        assertEquals(1, statistics.getFailureCount(ConversionOperation.SUGGEST));
+        assertEquals(1, statistics.getErrorCount(ConversionError.UNRECOGNISED_WORD));
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016  Zero Alpha Technology Limited
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package technology.zeroalpha.security.pgpwordlist;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests to ensure the correct operation of {@link PGPWordTable}.
+ *
+ * @author Chris Rowe
+ */
+public class PGPWordTableTest {
+
+    /**
+     * Ensure that the standard list is read from its resource with every word in place.
+     */
+    @Test
+    public void getDefault_reads_standard_list() {
+        // given
+
+        // when
+        final PGPWordTable table = PGPWordTable.getDefault();
+
+        // then
+        assertEquals("aardvark", table.getEvenWord(0x00));
+        assertEquals("adroitness", table.getOddWord(0x00));
+        assertEquals("Zulu", table.getEvenWord(0xFF));
+        assertEquals("Yucatan", table.getOddWord(0xFF));
+    }
+
+    /**
+     * Ensure that a written table can be loaded again, giving the same words.
+     *
+     * @throws IOException Exception thrown by stream
+     */
+    @Test
+    public void write_and_load_round_trip() throws IOException {
+        // given
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PGPWordTable.getDefault().write(output);
+
+        // when
+        final PGPWordTable table = PGPWordTable.load(new ByteArrayInputStream(output.toByteArray()));
+
+        // then
+        for (int hexValue = 0; hexValue < PGPWordTable.SIZE; hexValue++) {
+            assertEquals(PGPWordTable.getDefault().getEvenWord(hexValue), table.getEvenWord(hexValue));
+            assertEquals(PGPWordTable.getDefault().getOddWord(hexValue), table.getOddWord(hexValue));
+        }
+    }
+
+    /**
+     * Ensure that a custom list can be used for conversions through the same lookup engine.
+     *
+     * @throws InvalidPGPWordException Exception thrown by converter
+     */
+    @Test
+    public void of_builds_custom_list_for_conversion() throws InvalidPGPWordException {
+        // given
+        final PGPWordList pgpWordList = customList();
+        final PGPWordListConverter converter = new PGPWordListConverter(pgpWordList, true, ConversionListener.NONE);
+
+        // when
+        final String words = converter.encode(new byte[] {0x0A, 0x21});
+        final byte[] bytes = converter.decode("GERADE0a ungerade21");
+
+        // then
+        assertEquals("gerade0a ungerade21", words);
+        assertArrayEquals(new byte[] {0x0A, 0x21}, bytes);
+        assertEquals(0x21 | PGPWordList.ODD_WORD_FLAG, pgpWordList.lookupWord("ungerade21", 0, 10));
+    }
+
+    /**
+     * Ensure that a list with duplicate words is rejected.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void of_throws_IllegalArgumentException_if_words_are_not_unique() {
+        // given
+        final String[] evenWords = new String[PGPWordTable.SIZE];
+        final String[] oddWords = new String[PGPWordTable.SIZE];
+        for (int hexValue = 0; hexValue < PGPWordTable.SIZE; hexValue++) {
+            evenWords[hexValue] = "even" + hexValue;
+            oddWords[hexValue] = "odd" + hexValue;
+        }
+        oddWords[0xFF] = "EVEN0";
+
+        // when
+        PGPWordTable.of(evenWords, oddWords);
+
+        // then
+    }
+
+    /**
+     * Ensure that a list with a word outside printable ASCII is rejected, as it could not be matched correctly.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void of_throws_IllegalArgumentException_if_word_is_not_ascii() {
+        // given
+        final String[] evenWords = new String[PGPWordTable.SIZE];
+        final String[] oddWords = new String[PGPWordTable.SIZE];
+        for (int hexValue = 0; hexValue < PGPWordTable.SIZE; hexValue++) {
+            evenWords[hexValue] = "even" + hexValue;
+            oddWords[hexValue] = "odd" + hexValue;
+        }
+        evenWords[0x80] = "\u00dcber";
+
+        // when
+        PGPWordTable.of(evenWords, oddWords);
+
+        // then
+    }
+
+    /**
+     * Ensure that a truncated resource is rejected.
+     *
+     * @throws IOException Exception thrown by table
+     */
+    @Test (expected = IOException.class)
+    public void load_throws_IOException_if_resource_is_truncated() throws IOException {
+        // given
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PGPWordTable.getDefault().write(output);
+        final byte[] truncated = Arrays.copyOf(output.toByteArray(), output.size() - 1);
+
+        // when
+        PGPWordTable.load(new ByteArrayInputStream(truncated));
+
+        // then
+    }
+
+    /**
+     * Ensure that every encoder given a custom list takes its words from that list.
+     *
+     * @throws IOException Exception thrown by stream
+     */
+    @Test
+    public void custom_list_is_used_by_encoders() throws IOException {
+        // given
+        final PGPWordList pgpWordList = customList();
+        final byte[] bytes = {0x0A, 0x21};
+        final StringWriter writer = new StringWriter();
+
+        // when
+        try (OutputStream output = new PGPWordOutputStream(pgpWordList, writer, " ")) {
+            output.write(bytes);
+        }
+
+        // then
+        final String expected = "gerade0a ungerade21";
+        assertEquals(expected, new PGPWordEncoder(pgpWordList, " ").encode(bytes, 0, 2).toString());
+        assertEquals(expected, new PGPWordPairEncoder(pgpWordList, " ").encode(bytes));
+        assertEquals(expected, new String(new PGPWordAsciiCodec(pgpWordList, " ").encode(bytes),
+                StandardCharsets.US_ASCII));
+        assertEquals(expected, new PGPPhraseView(pgpWordList, bytes, " ").toString());
+        assertEquals(expected, new PGPWordCodecPool(pgpWordList, 1).borrowEncoder().encode(bytes, 0, 2).toString());
+        assertEquals(expected, writer.toString());
+    }
+
+    /**
+     * Ensure that every decoder given a custom list recognises the words of that list.
+     *
+     * @throws Exception Exception thrown by decoder
+     */
+    @Test
+    public void custom_list_is_used_by_decoders() throws Exception {
+        // given
+        final PGPWordList pgpWordList = customList();
+        final String words = "gerade0a ungerade21";
+        final byte[] expected = {0x0A, 0x21};
+        final byte[] streamed = new byte[2];
+
+        // when
+        try (InputStream input = new PGPWordInputStream(pgpWordList, new StringReader(words))) {
+            assertEquals(2, input.read(streamed));
+        }
+
+        // then
+        assertArrayEquals(expected, toArray(new PGPWordDecoder(pgpWordList).decode(words)));
+        assertArrayEquals(expected, toArray(new PGPWordCodecPool(pgpWordList, 1).borrowDecoder().decode(words)));
+        assertArrayEquals(expected, new PGPWordAsciiCodec(pgpWordList, " ").decode(
+                words.getBytes(StandardCharsets.US_ASCII)));
+        assertArrayEquals(expected, streamed);
+    }
+
+    /**
+     * Ensure that word suggestions, prefix matches and incremental decoding use a custom list when given one.
+     */
+    @Test
+    public void custom_list_is_used_for_suggestions_and_prefixes() {
+        // given
+        final PGPWordList pgpWordList = customList();
+        final PGPWordIncrementalDecoder decoder = new PGPWordIncrementalDecoder(pgpWordList);
+
+        // when
+        final TokenStatus status = decoder.acceptWord("gerade0a");
+        decoder.acceptChars("ungerade2");
+
+        // then
+        assertEquals(TokenStatus.ACCEPTED, status);
+        assertEquals(16, decoder.getCandidates().size());
+        assertEquals("ungerade20", decoder.getCandidates().get(0));
+        assertEquals("ungerade21",
+                new PGPWordSuggester(pgpWordList, ConversionListener.NONE).suggest("UNGERADE21", 1).get(0).getWord());
+        assertEquals(0x20, new PGPWordPrefixIndex(pgpWordList).matchOdd("ungerade2").getHexValue(0));
+    }
+
+    /**
+     * @return List in which the even word for each value is "gerade" followed by the value in hexadecimal, and the
+     *     odd word is "ungerade" followed by the value
+     */
+    static PGPWordList customList() {
+        final String[] evenWords = new String[PGPWordTable.SIZE];
+        final String[] oddWords = new String[PGPWordTable.SIZE];
+        for (int hexValue = 0; hexValue < PGPWordTable.SIZE; hexValue++) {
+            evenWords[hexValue] = String.format("gerade%02x", hexValue);
+            oddWords[hexValue] = String.format("ungerade%02x", hexValue);
+        }
+
+        return new PGPWordList(PGPWordTable.of(evenWords, oddWords));
+    }
+
+    /**
+     * @param buffer Buffer to copy
+     * @return Bytes between the position and limit of the buffer
+     */
+    private static byte[] toArray(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+
+        return bytes;
+    }
+}